@@ -0,0 +1,40 @@
+package com.chess.benchmarks;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.Perft.ReferencePosition;
+import com.chess.pgn.FenUtilities;
+
+final class BenchmarkPositions {
+    static final String EN_PASSANT = "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3";
+    static final String PROMOTION = "1n5k/P7/8/8/8/8/8/K7 w - - 0 1";
+    static final String CHECKMATE = "rnb1kbnr/pppp1ppp/8/4p3/6Pq/5P2/PPPPP2P/RNBQKBNR w KQkq - 1 3";
+    static final String STALEMATE = "7k/5Q2/6K1/8/8/8/8/8 b - - 0 1";
+
+    private BenchmarkPositions() {
+        throw new RuntimeException("not instantiable");
+    }
+
+    static Board middlegame() {
+        return ReferencePosition.KIWIPETE.createBoard();
+    }
+
+    static Board[] moveSources() {
+        return new Board[] {
+                ReferencePosition.KIWIPETE.createBoard(),
+                FenUtilities.createGameFromFEN(PROMOTION),
+                FenUtilities.createGameFromFEN(EN_PASSANT)
+        };
+    }
+
+    static Move findMove(String moveType) {
+        for (Board board: moveSources()) {
+            for (Move move: board.currentPlayer().getLegalMoves()) {
+                if (move.getClass().getSimpleName().equals(moveType)) {
+                    return move;
+                }
+            }
+        }
+        throw new RuntimeException("no " + moveType + " in benchmark positions");
+    }
+}
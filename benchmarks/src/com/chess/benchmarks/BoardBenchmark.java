@@ -0,0 +1,40 @@
+package com.chess.benchmarks;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.pieces.Piece;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+    private Board.Builder middlegameBuilder;
+
+    @Setup
+    public void setup() {
+        Board middlegame = BenchmarkPositions.middlegame();
+        middlegameBuilder = new Board.Builder();
+        for (Piece piece: middlegame.getWhitePieces()) {
+            middlegameBuilder.setPiece(piece);
+        }
+        for (Piece piece: middlegame.getBlackPieces()) {
+            middlegameBuilder.setPiece(piece);
+        }
+        middlegameBuilder.setNextMove(middlegame.currentPlayer().getAlliance());
+    }
+
+    @Benchmark
+    public Board createStandardBoard() {
+        return Board.createStandardBoard();
+    }
+
+    @Benchmark
+    public Board buildMiddlegame() {
+        return middlegameBuilder.build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.chess.benchmarks;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.player.ai.BoardEvaluator;
+import com.chess.engine.player.ai.IncrementalBoardEvaluator;
+import com.chess.engine.player.ai.StandardBoardEvaluator;
+import com.chess.engine.player.ai.TaperedBoardEvaluator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EvaluationBenchmark {
+    @Param({"standard", "incremental", "tapered"})
+    private String evaluatorType;
+
+    private BoardEvaluator evaluator;
+    private Board board;
+    private SearchBoard searchBoard;
+
+    @Setup
+    public void setup() {
+        if (evaluatorType.equals("incremental")) {
+            evaluator = new IncrementalBoardEvaluator();
+        }
+        else if (evaluatorType.equals("tapered")) {
+            evaluator = new TaperedBoardEvaluator();
+        }
+        else {
+            evaluator = new StandardBoardEvaluator();
+        }
+        board = BenchmarkPositions.middlegame();
+        searchBoard = new SearchBoard(board);
+    }
+
+    @Benchmark
+    public int evaluateBoard() {
+        return evaluator.evaluate(board, 0);
+    }
+
+    @Benchmark
+    public int evaluateSearchBoard() {
+        return evaluator.evaluate(searchBoard, 0);
+    }
+}
@@ -0,0 +1,59 @@
+package com.chess.benchmarks;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.player.ai.AlphaBeta;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 4)
+@Fork(1)
+@State(Scope.Thread)
+public class LazySmpBenchmark {
+    @Param({"1", "2", "4", "8", "16"})
+    private int threads;
+
+    @Param({"6"})
+    private int depth;
+
+    private Board middlegame;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Nodes {
+        public long nodes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            nodes = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        middlegame = BenchmarkPositions.middlegame();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Move timeToDepth() {
+        return createSearch().execute(middlegame);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Move nodesPerSecond(Nodes counter) {
+        final AlphaBeta search = createSearch();
+        final Move move = search.execute(middlegame);
+        counter.nodes += search.getNodeCount();
+        return move;
+    }
+
+    private AlphaBeta createSearch() {
+        return new AlphaBeta.Builder().setSearchDepth(depth).setThreads(threads).build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.chess.benchmarks;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoveExecuteBenchmark {
+    @Param({"MajorMove", "MajorAttackMove", "PawnMove", "PawnAttackMove", "PawnJump",
+            "PawnEnPassant", "PawnPromotion", "KingSideCastle", "QueenSideCastle"})
+    private String moveType;
+
+    private Move move;
+
+    @Setup
+    public void setup() {
+        move = BenchmarkPositions.findMove(moveType);
+    }
+
+    @Benchmark
+    public Board execute() {
+        return move.execute();
+    }
+}
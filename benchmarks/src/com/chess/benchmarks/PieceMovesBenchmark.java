@@ -0,0 +1,49 @@
+package com.chess.benchmarks;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PieceMovesBenchmark {
+    @Param({"PAWN", "KNIGHT", "BISHOP", "ROOK", "QUEEN", "KING"})
+    private PieceType pieceType;
+
+    private Board board;
+    private Piece[] pieces;
+
+    @Setup
+    public void setup() {
+        board = BenchmarkPositions.middlegame();
+        List<Piece> matching = new ArrayList<>();
+        for (Piece piece: board.getWhitePieces()) {
+            if (piece.getPieceType() == pieceType) {
+                matching.add(piece);
+            }
+        }
+        for (Piece piece: board.getBlackPieces()) {
+            if (piece.getPieceType() == pieceType) {
+                matching.add(piece);
+            }
+        }
+        pieces = matching.toArray(new Piece[0]);
+    }
+
+    @Benchmark
+    public void getLegalMoves(Blackhole blackhole) {
+        for (Piece piece: pieces) {
+            blackhole.consume(piece.getLegalMoves(board));
+        }
+    }
+}
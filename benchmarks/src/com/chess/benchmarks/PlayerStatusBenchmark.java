@@ -0,0 +1,46 @@
+package com.chess.benchmarks;
+
+import com.chess.engine.board.Board;
+import com.chess.pgn.FenUtilities;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayerStatusBenchmark {
+    private Board middlegame;
+    private Board checkmate;
+    private Board stalemate;
+
+    @Setup
+    public void setup() {
+        middlegame = BenchmarkPositions.middlegame();
+        checkmate = FenUtilities.createGameFromFEN(BenchmarkPositions.CHECKMATE);
+        stalemate = FenUtilities.createGameFromFEN(BenchmarkPositions.STALEMATE);
+    }
+
+    @Benchmark
+    public boolean inCheckmateMiddlegame() {
+        return middlegame.currentPlayer().inCheckmate();
+    }
+
+    @Benchmark
+    public boolean inCheckmate() {
+        return checkmate.currentPlayer().inCheckmate();
+    }
+
+    @Benchmark
+    public boolean inStalemateMiddlegame() {
+        return middlegame.currentPlayer().inStalemate();
+    }
+
+    @Benchmark
+    public boolean inStalemate() {
+        return stalemate.currentPlayer().inStalemate();
+    }
+}
@@ -0,0 +1,65 @@
+package com.chess.benchmarks;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.player.ai.CachedBoardEvaluator;
+import com.chess.engine.player.ai.MiniMax;
+import com.chess.engine.player.ai.StandardBoardEvaluator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SearchBenchmark {
+    @Param({"1", "2", "3"})
+    private int depth;
+
+    private Board standard;
+    private Board middlegame;
+    private CachedBoardEvaluator cachedEvaluator;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class CacheCounters {
+        public long cacheProbes;
+        public long cacheHits;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            cacheProbes = 0;
+            cacheHits = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        standard = Board.createStandardBoard();
+        middlegame = BenchmarkPositions.middlegame();
+        cachedEvaluator = new CachedBoardEvaluator(new StandardBoardEvaluator());
+    }
+
+    @Benchmark
+    public Move miniMaxStandard() {
+        return new MiniMax(depth).execute(standard);
+    }
+
+    @Benchmark
+    public Move miniMaxMiddlegame() {
+        return new MiniMax(depth).execute(middlegame);
+    }
+
+    @Benchmark
+    public Move miniMaxMiddlegameCached(CacheCounters counters) {
+        final long probes = cachedEvaluator.getProbes();
+        final long hits = cachedEvaluator.getHits();
+        final Move move = new MiniMax(depth, cachedEvaluator).execute(middlegame);
+        counters.cacheProbes += cachedEvaluator.getProbes() - probes;
+        counters.cacheHits += cachedEvaluator.getHits() - hits;
+        return move;
+    }
+}
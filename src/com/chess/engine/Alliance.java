@@ -20,6 +20,11 @@ public enum Alliance {
         public boolean isPawnPromotionSquare(int position) {
             return position >= 0 && position <= 7;
         }
+
+        @Override
+        public Alliance opposite() {
+            return BLACK;
+        }
     },
     BLACK {
         public int getDirection() {
@@ -34,9 +39,15 @@ public enum Alliance {
         public boolean isPawnPromotionSquare(int position) {
             return position >= 56 && position <= 63;
         }
+
+        @Override
+        public Alliance opposite() {
+            return WHITE;
+        }
     };
     public abstract int getDirection();
 
     public abstract Player choosePlayer(WhitePlayer whitePlayer, BlackPlayer blackPlayer);
     public abstract boolean isPawnPromotionSquare(int position);
+    public abstract Alliance opposite();
 }
@@ -0,0 +1,219 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+
+public final class AttackTables {
+    private static final int[] KNIGHT_OFFSETS = {-17, -15, -10, -6, 6, 10, 15, 17};
+    private static final int[] KING_OFFSETS = {-9, -8, -7, -1, 1, 7, 8, 9};
+    private static final int[] ROOK_OFFSETS = {-8, -1, 1, 8};
+    private static final int[] BISHOP_OFFSETS = {-9, -7, 7, 9};
+
+    private static final long[] KNIGHT_ATTACKS = createLeaperAttacks(KNIGHT_OFFSETS, 2);
+    private static final long[] KING_ATTACKS = createLeaperAttacks(KING_OFFSETS, 1);
+    private static final long[][] PAWN_ATTACKS = createPawnAttacks();
+
+    private static final long[] ROOK_MASKS = createSliderMasks(ROOK_OFFSETS);
+    private static final long[] BISHOP_MASKS = createSliderMasks(BISHOP_OFFSETS);
+    private static final long[] ROOK_MAGICS = {
+            0x1080004008801020L, 0x0840092002C03000L, 0x1900200010400900L, 0x0880100008000480L,
+            0x4200100420080200L, 0x8100020100080400L, 0x0200040110886200L, 0x0200008040220411L,
+            0x0404800084400220L, 0x0000401000402000L, 0x0086001081220440L, 0x0408800800100280L,
+            0x000A001201040820L, 0x8848800200840080L, 0x4001000100040200L, 0x0442000102105084L,
+            0x9080010020804100L, 0x0040404000201009L, 0x0000808010002009L, 0x2200090021D00100L,
+            0x0008008008040080L, 0x0004004002010040L, 0x0011040008015042L, 0x00000A0001768104L,
+            0x0000800080204009L, 0x2010004140002001L, 0x9800200280100080L, 0x1000100080080080L,
+            0x0442000A00049020L, 0x2100040080020080L, 0x0800120400900148L, 0x0010040A00128541L,
+            0x2800804000800030L, 0x1010002000400041L, 0x4000200011004100L, 0x0610008410800800L,
+            0x0400802402800800L, 0xC100020080800400L, 0x0002000802000401L, 0x0182085882000401L,
+            0x0220204000808000L, 0x2860100040024022L, 0x0001002004110040L, 0x99101042000A0020L,
+            0x0004080004008080L, 0x0010040002008080L, 0x2012004881020004L, 0x8300842444820011L,
+            0x0088403882010200L, 0x0820400080210100L, 0x0110910040A00300L, 0x0801100280080480L,
+            0x0242009008200600L, 0x1002000489500200L, 0x0040800200010080L, 0x0091800041000080L,
+            0x0000209300488001L, 0x04C1002414824001L, 0x020020000B001041L, 0x7000100004200901L,
+            0x8002002004100802L, 0x30010002084C0007L, 0x0888221800813004L, 0x4000002840840112L};
+    private static final long[] BISHOP_MAGICS = {
+            0x10102002004A1420L, 0x8020040400584008L, 0x10510800811201C8L, 0x5204042080000088L,
+            0x2204106880000002L, 0x1401042004000000L, 0x0400880410042004L, 0x0028208200A02020L,
+            0x1500241990010E00L, 0x8001200182020A40L, 0x40004101030B0000L, 0x8002041042000100L,
+            0x4010011041020038L, 0x0000010421044000L, 0x1500210808020A00L, 0x8000088400880520L,
+            0x0405004010040100L, 0x1005823210040108L, 0x2708008102040011L, 0x4048200404009100L,
+            0x0018104101400024L, 0x0003000601190101L, 0x8004803108491000L, 0x8014241200820800L,
+            0x0006E080100C3040L, 0x0501044A11041800L, 0x9020300008004045L, 0x0894080000220040L,
+            0x1001010083104000L, 0x5004030040900080L, 0x000400422C012400L, 0x0002128698404812L,
+            0x1010108404900440L, 0x0928021182084100L, 0x2006080409020024L, 0x1010202020180080L,
+            0xA010008200202200L, 0x2098015100019004L, 0x0002041440810811L, 0x802A02020000B098L,
+            0x0009015090004060L, 0x4000821082081001L, 0x0100210040420800L, 0x0800004010488A00L,
+            0x2000081104004040L, 0x4C8E029015000082L, 0x0420340322224842L, 0x1298260043400210L,
+            0x0000822802400008L, 0x00008A0101600000L, 0x3040003412080021L, 0x3040290220884800L,
+            0x4A1500401041004AL, 0x8010200282020781L, 0x0020203142209091L, 0x0070300600902110L,
+            0x0040808800B62048L, 0x0000810400C44420L, 0x00080400440C0441L, 0x8340080020840411L,
+            0x0000000104208200L, 0x0000800810D00080L, 0x0400530411080200L, 0x4040702400932244L};
+    private static final int[] ROOK_SHIFTS = new int[Board.NUM_SQUARES];
+    private static final int[] BISHOP_SHIFTS = new int[Board.NUM_SQUARES];
+    private static final long[][] ROOK_ATTACKS = createMagicAttacks(ROOK_OFFSETS, ROOK_MASKS, ROOK_MAGICS, ROOK_SHIFTS);
+    private static final long[][] BISHOP_ATTACKS =
+            createMagicAttacks(BISHOP_OFFSETS, BISHOP_MASKS, BISHOP_MAGICS, BISHOP_SHIFTS);
+    private static final long[][] BETWEEN = createBetween();
+    private static final long[][] LINES = createLines();
+
+    private AttackTables() {
+        throw new RuntimeException("not instantiable");
+    }
+
+    public static long knightAttacks(int coordinate) {
+        return KNIGHT_ATTACKS[coordinate];
+    }
+    public static long kingAttacks(int coordinate) {
+        return KING_ATTACKS[coordinate];
+    }
+    public static long pawnAttacks(Alliance alliance, int coordinate) {
+        return PAWN_ATTACKS[alliance.ordinal()][coordinate];
+    }
+    public static long pawnAttacks(int side, int coordinate) {
+        return PAWN_ATTACKS[side][coordinate];
+    }
+    public static long rookAttacks(int coordinate, long occupancy) {
+        return ROOK_ATTACKS[coordinate][(int) (((occupancy & ROOK_MASKS[coordinate]) * ROOK_MAGICS[coordinate])
+                >>> ROOK_SHIFTS[coordinate])];
+    }
+    public static long bishopAttacks(int coordinate, long occupancy) {
+        return BISHOP_ATTACKS[coordinate][(int) (((occupancy & BISHOP_MASKS[coordinate]) * BISHOP_MAGICS[coordinate])
+                >>> BISHOP_SHIFTS[coordinate])];
+    }
+    public static long queenAttacks(int coordinate, long occupancy) {
+        return rookAttacks(coordinate, occupancy) | bishopAttacks(coordinate, occupancy);
+    }
+    public static long between(int from, int to) {
+        return BETWEEN[from][to];
+    }
+    public static long line(int from, int to) {
+        return LINES[from][to];
+    }
+    public static long pinnedPieces(int kingSquare, long ownPieces, long occupancy,
+                                    long rookSliders, long bishopSliders) {
+        long pinned = 0;
+        long snipers = (rookAttacks(kingSquare, 0) & rookSliders) | (bishopAttacks(kingSquare, 0) & bishopSliders);
+        while (snipers != 0) {
+            long blockers = BETWEEN[kingSquare][BitBoards.firstSquare(snipers)] & occupancy;
+            if (BitBoards.count(blockers) == 1) {
+                pinned |= blockers & ownPieces;
+            }
+            snipers = BitBoards.clearFirstSquare(snipers);
+        }
+        return pinned;
+    }
+
+    private static long[] createLeaperAttacks(int[] offsets, int maxFileDistance) {
+        long[] attacks = new long[Board.NUM_SQUARES];
+        for (int i = 0; i < Board.NUM_SQUARES; i++) {
+            for (int shift: offsets) {
+                if (isStep(i, i + shift, maxFileDistance)) {
+                    attacks[i] |= BitBoards.squareBit(i + shift);
+                }
+            }
+        }
+        return attacks;
+    }
+
+    private static long[][] createPawnAttacks() {
+        long[][] attacks = new long[BitBoards.ALLIANCES.length][Board.NUM_SQUARES];
+        for (Alliance alliance: BitBoards.ALLIANCES) {
+            int forward = alliance.getDirection() * Board.NUM_SQUARES_PER_ROW;
+            for (int i = 0; i < Board.NUM_SQUARES; i++) {
+                for (int shift = forward - 1; shift <= forward + 1; shift += 2) {
+                    if (isStep(i, i + shift, 1)) {
+                        attacks[alliance.ordinal()][i] |= BitBoards.squareBit(i + shift);
+                    }
+                }
+            }
+        }
+        return attacks;
+    }
+
+    private static long slidingAttacks(int coordinate, long occupancy, int[] offsets) {
+        long attacks = 0;
+        for (int shift: offsets) {
+            int current = coordinate;
+            while (isStep(current, current + shift, 1)) {
+                current += shift;
+                attacks |= BitBoards.squareBit(current);
+                if (BitBoards.isSet(occupancy, current)) {
+                    break;
+                }
+            }
+        }
+        return attacks;
+    }
+
+    private static long[] createSliderMasks(int[] offsets) {
+        long[] masks = new long[Board.NUM_SQUARES];
+        for (int i = 0; i < Board.NUM_SQUARES; i++) {
+            for (int shift: offsets) {
+                int current = i;
+                while (isStep(current, current + shift, 1) && isStep(current + shift, current + 2 * shift, 1)) {
+                    current += shift;
+                    masks[i] |= BitBoards.squareBit(current);
+                }
+            }
+        }
+        return masks;
+    }
+
+    private static long[][] createMagicAttacks(int[] offsets, long[] masks, long[] magics, int[] shifts) {
+        long[][] attacks = new long[Board.NUM_SQUARES][];
+        for (int i = 0; i < Board.NUM_SQUARES; i++) {
+            int bits = BitBoards.count(masks[i]);
+            shifts[i] = Board.NUM_SQUARES - bits;
+            attacks[i] = new long[1 << bits];
+            long subset = 0;
+            do {
+                long sliderAttacks = slidingAttacks(i, subset, offsets);
+                int index = (int) ((subset * magics[i]) >>> shifts[i]);
+                if (attacks[i][index] != 0 && attacks[i][index] != sliderAttacks) {
+                    throw new RuntimeException("bad magic for square " + i);
+                }
+                attacks[i][index] = sliderAttacks;
+                subset = (subset - masks[i]) & masks[i];
+            } while (subset != 0);
+        }
+        return attacks;
+    }
+
+    private static long[][] createBetween() {
+        long[][] between = new long[Board.NUM_SQUARES][Board.NUM_SQUARES];
+        for (int from = 0; from < Board.NUM_SQUARES; from++) {
+            for (int to = 0; to < Board.NUM_SQUARES; to++) {
+                long fromBit = BitBoards.squareBit(from);
+                long toBit = BitBoards.squareBit(to);
+                if ((rookAttacks(from, 0) & toBit) != 0) {
+                    between[from][to] = rookAttacks(from, toBit) & rookAttacks(to, fromBit);
+                }
+                else if ((bishopAttacks(from, 0) & toBit) != 0) {
+                    between[from][to] = bishopAttacks(from, toBit) & bishopAttacks(to, fromBit);
+                }
+            }
+        }
+        return between;
+    }
+
+    private static long[][] createLines() {
+        long[][] lines = new long[Board.NUM_SQUARES][Board.NUM_SQUARES];
+        for (int from = 0; from < Board.NUM_SQUARES; from++) {
+            for (int to = 0; to < Board.NUM_SQUARES; to++) {
+                long ends = BitBoards.squareBit(from) | BitBoards.squareBit(to);
+                if ((rookAttacks(from, 0) & BitBoards.squareBit(to)) != 0) {
+                    lines[from][to] = (rookAttacks(from, 0) & rookAttacks(to, 0)) | ends;
+                }
+                else if ((bishopAttacks(from, 0) & BitBoards.squareBit(to)) != 0) {
+                    lines[from][to] = (bishopAttacks(from, 0) & bishopAttacks(to, 0)) | ends;
+                }
+            }
+        }
+        return lines;
+    }
+
+    static boolean isStep(int from, int to, int maxFileDistance) {
+        return to >= 0 && to < Board.NUM_SQUARES &&
+                Math.abs(from % Board.NUM_SQUARES_PER_ROW - to % Board.NUM_SQUARES_PER_ROW) <= maxFileDistance;
+    }
+}
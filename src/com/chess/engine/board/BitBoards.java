@@ -0,0 +1,68 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+
+public final class BitBoards {
+    public static final int NUM_PIECE_TYPES = 6;
+    public static final int NUM_PIECE_INDEXES = 12;
+    public static final int NO_PIECE = -1;
+    public static final long EMPTY = 0L;
+    public static final long FILE_A = 0x0101010101010101L;
+    public static final long FILE_H = FILE_A << 7;
+    public static final long RANK_8 = 0xFFL;
+    public static final long RANK_1 = RANK_8 << 56;
+    public static final Alliance[] ALLIANCES = Alliance.values();
+    public static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    private BitBoards() {
+        throw new RuntimeException("not instantiable");
+    }
+    public static long squareBit(int coordinate) {
+        return 1L << coordinate;
+    }
+    public static boolean isSet(long bitBoard, int coordinate) {
+        return (bitBoard & (1L << coordinate)) != 0;
+    }
+    public static int firstSquare(long bitBoard) {
+        return Long.numberOfTrailingZeros(bitBoard);
+    }
+    public static long clearFirstSquare(long bitBoard) {
+        return bitBoard & (bitBoard - 1);
+    }
+    public static int count(long bitBoard) {
+        return Long.bitCount(bitBoard);
+    }
+    public static long fileMask(int file) {
+        return FILE_A << file;
+    }
+    public static long rowMask(int row) {
+        return RANK_8 << (row * Board.NUM_SQUARES_PER_ROW);
+    }
+    public static int pieceIndex(Alliance alliance, PieceType pieceType) {
+        return alliance.ordinal() * NUM_PIECE_TYPES + pieceType.ordinal();
+    }
+    public static int pieceIndex(Piece piece) {
+        return pieceIndex(piece.getPieceAlliance(), piece.getPieceType());
+    }
+    public static int pieceIndex(int side, int pieceType) {
+        return side * NUM_PIECE_TYPES + pieceType;
+    }
+    public static int sideOf(int pieceIndex) {
+        return pieceIndex / NUM_PIECE_TYPES;
+    }
+    public static int typeOf(int pieceIndex) {
+        return pieceIndex % NUM_PIECE_TYPES;
+    }
+    public static String toString(long bitBoard) {
+        StringBuilder stb = new StringBuilder();
+        for (int i = 0; i < Board.NUM_SQUARES; i++) {
+            stb.append(isSet(bitBoard, i) ? " 1" : " .");
+            if ((i + 1) % Board.NUM_SQUARES_PER_ROW == 0) {
+                stb.append("\n");
+            }
+        }
+        return stb.toString();
+    }
+}
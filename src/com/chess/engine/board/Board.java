@@ -11,13 +11,28 @@ import java.util.*;
 public class Board {
     public static final int NUM_SQUARES = 64;
     public static final int NUM_SQUARES_PER_ROW = 8;
+    public static final int WHITE_KING_SIDE = 1;
+    public static final int WHITE_QUEEN_SIDE = 2;
+    public static final int BLACK_KING_SIDE = 4;
+    public static final int BLACK_QUEEN_SIDE = 8;
+    private static final int[] CASTLING_MASKS = createCastlingMasks();
     private final List<Square> gameBoard;
+    private final long[] pieceBitBoards;
+    private final long[] allianceOccupancy;
+    private final long occupancy;
     private final List<Piece> blackPieces;
     private final List<Piece> whitePieces;
     private final WhitePlayer whitePlayer;
     private final BlackPlayer blackPlayer;
     private final Player currentPlayer;
     private final Pawn enPassantPawn;
+    private final int castlingRights;
+    private final long zobristKey;
+    private final long pawnKey;
+    private final int material;
+    private final int pieceSquareScore;
+    private final int taperedScore;
+    private final int phase;
     public static final List<String> ALGEBRAIC_NOTATION = initializeAlgebraicNotation();
 
     public static final Map<String, Integer> POSITION_TO_COORDINATE = initalizePositionToCoordinate();
@@ -25,25 +40,153 @@ public class Board {
 
     private Board(Builder builder) {
         gameBoard = createBoard(builder);
-        whitePieces = calculateActivePieces(gameBoard, Alliance.WHITE);
-        blackPieces = calculateActivePieces(gameBoard, Alliance.BLACK);
+        pieceBitBoards = calculatePieceBitBoards(builder);
+        allianceOccupancy = calculateAllianceOccupancy(pieceBitBoards);
+        occupancy = allianceOccupancy[Alliance.WHITE.ordinal()] | allianceOccupancy[Alliance.BLACK.ordinal()];
+        whitePieces = calculateActivePieces(Alliance.WHITE);
+        blackPieces = calculateActivePieces(Alliance.BLACK);
         enPassantPawn = builder.enPassantPawn;
-        final List<Move> whiteLegalMoves = calculateLegalMoves(whitePieces);
-        final List<Move> blackLegalMoves = calculateLegalMoves(blackPieces);
+        final List<Move> whiteLegalMoves = calculateLegalMoves(whitePieces, Alliance.WHITE);
+        final List<Move> blackLegalMoves = calculateLegalMoves(blackPieces, Alliance.BLACK);
         whitePlayer = new WhitePlayer(this, whiteLegalMoves, blackLegalMoves);
         blackPlayer = new BlackPlayer(this, whiteLegalMoves, blackLegalMoves);
         currentPlayer = builder.nextMove.choosePlayer(whitePlayer, blackPlayer);
+        castlingRights = calculateCastlingRights();
+        zobristKey = builder.zobristKey != null ? builder.zobristKey : Zobrist.calculateKey(this);
+        pawnKey = Zobrist.calculatePawnKey(this);
+        material = builder.material != null ? builder.material : PieceSquareTables.calculateMaterial(this);
+        pieceSquareScore = builder.pieceSquareScore != null ? builder.pieceSquareScore :
+                PieceSquareTables.calculatePieceSquareScore(this);
+        taperedScore = builder.taperedScore != null ? builder.taperedScore : TaperedTables.calculateScore(this);
+        phase = builder.phase != null ? builder.phase : TaperedTables.calculatePhase(this);
     }
-    private List<Move> calculateLegalMoves(List<Piece> pieces) {
+    private List<Move> calculateLegalMoves(List<Piece> pieces, Alliance alliance) {
         List<Move> legalMoves = new ArrayList<>();
+        int kingPosition = getKingPosition(alliance);
+        long checkers = attackersTo(kingPosition, alliance.opposite());
+        long pinned = calculatePinnedPieces(kingPosition, alliance);
         for (Piece piece: pieces) {
-            legalMoves.addAll(piece.getLegalMoves(this));
+            for (Move move: piece.getLegalMoves(this)) {
+                if (isLegal(move, alliance, kingPosition, checkers, pinned)) {
+                    legalMoves.add(move);
+                }
+            }
         }
         return Collections.unmodifiableList(legalMoves);
     }
+    private long calculatePinnedPieces(int kingPosition, Alliance alliance) {
+        Alliance opponent = alliance.opposite();
+        long queens = getPieceBitBoard(opponent, Piece.PieceType.QUEEN);
+        return AttackTables.pinnedPieces(kingPosition, getOccupancy(alliance), occupancy,
+                getPieceBitBoard(opponent, Piece.PieceType.ROOK) | queens,
+                getPieceBitBoard(opponent, Piece.PieceType.BISHOP) | queens);
+    }
+    private boolean isLegal(Move move, Alliance alliance, int kingPosition, long checkers, long pinned) {
+        int from = move.getMovedPiece().getPosition();
+        int to = move.getDestination();
+        if (from == kingPosition) {
+            return attackersTo(to, alliance.opposite(), occupancy ^ BitBoards.squareBit(from)) == 0;
+        }
+        if (move instanceof Move.PawnEnPassant) {
+            long captured = BitBoards.squareBit(move.getAttackedPiece().getPosition());
+            long occupancyAfter = (occupancy ^ BitBoards.squareBit(from) ^ captured) | BitBoards.squareBit(to);
+            return (attackersTo(kingPosition, alliance.opposite(), occupancyAfter) & ~captured) == 0;
+        }
+        if (BitBoards.count(checkers) > 1) {
+            return false;
+        }
+        if (checkers != 0 && !BitBoards.isSet(checkers |
+                AttackTables.between(kingPosition, BitBoards.firstSquare(checkers)), to)) {
+            return false;
+        }
+        return !BitBoards.isSet(pinned, from) || BitBoards.isSet(AttackTables.line(kingPosition, from), to);
+    }
     public Pawn getEnPassantPawn() {
         return enPassantPawn;
     }
+    private int calculateCastlingRights() {
+        int rights = 0;
+        if (isCastleCapable(Alliance.WHITE, 60, 63, true)) {
+            rights |= WHITE_KING_SIDE;
+        }
+        if (isCastleCapable(Alliance.WHITE, 60, 56, false)) {
+            rights |= WHITE_QUEEN_SIDE;
+        }
+        if (isCastleCapable(Alliance.BLACK, 4, 7, true)) {
+            rights |= BLACK_KING_SIDE;
+        }
+        if (isCastleCapable(Alliance.BLACK, 4, 0, false)) {
+            rights |= BLACK_QUEEN_SIDE;
+        }
+        return rights;
+    }
+
+    private boolean isCastleCapable(Alliance alliance, int kingSquare, int rookSquare, boolean kingSide) {
+        Piece king = getPiece(kingSquare);
+        Piece rook = getPiece(rookSquare);
+        if (king == null || !king.isKing() || king.getPieceAlliance() != alliance || !king.isFirstMove()) {
+            return false;
+        }
+        if (rook == null || !rook.isRook() || rook.getPieceAlliance() != alliance || !rook.isFirstMove()) {
+            return false;
+        }
+        return kingSide ? ((King) king).kingSideCastleCapable() : ((King) king).queenSideCastleCapable();
+    }
+
+    private static int[] createCastlingMasks() {
+        int[] masks = new int[NUM_SQUARES];
+        for (int i = 0; i < NUM_SQUARES; i++) {
+            masks[i] = WHITE_KING_SIDE | WHITE_QUEEN_SIDE | BLACK_KING_SIDE | BLACK_QUEEN_SIDE;
+        }
+        masks[60] &= ~(WHITE_KING_SIDE | WHITE_QUEEN_SIDE);
+        masks[63] &= ~WHITE_KING_SIDE;
+        masks[56] &= ~WHITE_QUEEN_SIDE;
+        masks[4] &= ~(BLACK_KING_SIDE | BLACK_QUEEN_SIDE);
+        masks[7] &= ~BLACK_KING_SIDE;
+        masks[0] &= ~BLACK_QUEEN_SIDE;
+        return masks;
+    }
+
+    public static int updateCastlingRights(int castlingRights, int from, int to) {
+        return castlingRights & CASTLING_MASKS[from] & CASTLING_MASKS[to];
+    }
+    public int getCastlingRights() {
+        return castlingRights;
+    }
+    public long getZobristKey() {
+        return zobristKey;
+    }
+    public long getPawnKey() {
+        return pawnKey;
+    }
+    public int getMaterial() {
+        return material;
+    }
+    public int getPieceSquareScore() {
+        return pieceSquareScore;
+    }
+    public int getTaperedScore() {
+        return taperedScore;
+    }
+    public int getPhase() {
+        return phase;
+    }
+    public int hashCode() {
+        return (int) (zobristKey ^ (zobristKey >>> 32));
+    }
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Board)) {
+            return false;
+        }
+        Board otherBoard = (Board) other;
+        return zobristKey == otherBoard.zobristKey && castlingRights == otherBoard.castlingRights &&
+                currentPlayer.getAlliance() == otherBoard.currentPlayer.getAlliance() &&
+                Arrays.equals(pieceBitBoards, otherBoard.pieceBitBoards) &&
+                Objects.equals(enPassantPawn, otherBoard.enPassantPawn);
+    }
     private static List<String> initializeAlgebraicNotation() {
         return Collections.unmodifiableList(Arrays.asList(
                 "a8", "b8", "c8", "d8", "e8", "f8", "g8", "h8",
@@ -91,16 +234,30 @@ public class Board {
     public List<Piece> getWhitePieces() {
         return whitePieces;
     }
-    private static List<Piece> calculateActivePieces(List<Square> gameBoard, Alliance alliance) {
+    private List<Piece> calculateActivePieces(Alliance alliance) {
         List<Piece> activePieces = new ArrayList<>();
-        for (Square sq: gameBoard) {
-            Piece piece = sq.getPiece();
-            if (piece != null && piece.getPieceAlliance() == alliance) {
-                activePieces.add(piece);
-            }
+        long pieces = getOccupancy(alliance);
+        while (pieces != 0) {
+            activePieces.add(getPiece(BitBoards.firstSquare(pieces)));
+            pieces = BitBoards.clearFirstSquare(pieces);
         }
         return Collections.unmodifiableList(activePieces);
     }
+    private static long[] calculatePieceBitBoards(Builder builder) {
+        long[] bitBoards = new long[BitBoards.NUM_PIECE_INDEXES];
+        for (Piece piece: builder.boardConfig.values()) {
+            bitBoards[BitBoards.pieceIndex(piece.getPieceAlliance(), piece.getPieceType())] |=
+                    BitBoards.squareBit(piece.getPosition());
+        }
+        return bitBoards;
+    }
+    private static long[] calculateAllianceOccupancy(long[] pieceBitBoards) {
+        long[] result = new long[BitBoards.ALLIANCES.length];
+        for (int i = 0; i < BitBoards.NUM_PIECE_INDEXES; i++) {
+            result[BitBoards.sideOf(i)] |= pieceBitBoards[i];
+        }
+        return result;
+    }
     private static List<Square> createBoard(Builder builder) {
         final ArrayList<Square> squares = new ArrayList<>();
         for (int i = 0; i < NUM_SQUARES; i++) {
@@ -148,6 +305,48 @@ public class Board {
     public Square getSquare(int coordinate) {
         return gameBoard.get(coordinate);
     }
+    public Piece getPiece(int coordinate) {
+        return gameBoard.get(coordinate).getPiece();
+    }
+    public boolean isOccupied(int coordinate) {
+        return BitBoards.isSet(occupancy, coordinate);
+    }
+    public long getPieceBitBoard(Alliance alliance, Piece.PieceType pieceType) {
+        return pieceBitBoards[BitBoards.pieceIndex(alliance, pieceType)];
+    }
+    public long getPieceBitBoard(int pieceIndex) {
+        return pieceBitBoards[pieceIndex];
+    }
+    public long getOccupancy(Alliance alliance) {
+        return allianceOccupancy[alliance.ordinal()];
+    }
+    public long getOccupancy() {
+        return occupancy;
+    }
+    public long attackersTo(int coordinate, Alliance attacker) {
+        return attackersTo(coordinate, attacker, occupancy);
+    }
+    public long attackersTo(int coordinate, Alliance attacker, long occupancy) {
+        long queens = getPieceBitBoard(attacker, Piece.PieceType.QUEEN);
+        return (AttackTables.pawnAttacks(attacker.opposite(), coordinate) &
+                getPieceBitBoard(attacker, Piece.PieceType.PAWN)) |
+                (AttackTables.knightAttacks(coordinate) & getPieceBitBoard(attacker, Piece.PieceType.KNIGHT)) |
+                (AttackTables.kingAttacks(coordinate) & getPieceBitBoard(attacker, Piece.PieceType.KING)) |
+                (AttackTables.rookAttacks(coordinate, occupancy) &
+                        (getPieceBitBoard(attacker, Piece.PieceType.ROOK) | queens)) |
+                (AttackTables.bishopAttacks(coordinate, occupancy) &
+                        (getPieceBitBoard(attacker, Piece.PieceType.BISHOP) | queens));
+    }
+    public boolean isSquareAttacked(int coordinate, Alliance attacker) {
+        return attackersTo(coordinate, attacker) != 0;
+    }
+    public int getKingPosition(Alliance alliance) {
+        long king = getPieceBitBoard(alliance, Piece.PieceType.KING);
+        if (king == 0) {
+            throw new RuntimeException("Not a valid board");
+        }
+        return BitBoards.firstSquare(king);
+    }
 
     public Player currentPlayer() {
         return currentPlayer;
@@ -164,6 +363,11 @@ public class Board {
         Map<Integer, Piece> boardConfig;
         Alliance nextMove;
         Pawn enPassantPawn;
+        Long zobristKey;
+        Integer material;
+        Integer pieceSquareScore;
+        Integer taperedScore;
+        Integer phase;
         public Builder() {
             boardConfig = new HashMap<>();
         }
@@ -182,5 +386,26 @@ public class Board {
         public void setEnPassantPawn(Pawn movedPawn) {
             enPassantPawn = movedPawn;
         }
+
+        public Builder setZobristKey(long zobristKey) {
+            this.zobristKey = zobristKey;
+            return this;
+        }
+        public Builder setMaterial(int material) {
+            this.material = material;
+            return this;
+        }
+        public Builder setPieceSquareScore(int pieceSquareScore) {
+            this.pieceSquareScore = pieceSquareScore;
+            return this;
+        }
+        public Builder setTaperedScore(int taperedScore) {
+            this.taperedScore = taperedScore;
+            return this;
+        }
+        public Builder setPhase(int phase) {
+            this.phase = phase;
+            return this;
+        }
     }
 }
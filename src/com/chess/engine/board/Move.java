@@ -2,6 +2,7 @@ package com.chess.engine.board;
 
 import com.chess.engine.pieces.Pawn;
 import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
 import com.chess.engine.pieces.Rook;
 
 import static com.chess.engine.board.Board.*;
@@ -67,8 +68,43 @@ public abstract class Move {
         }
         builder.setPiece(movedPiece.movePiece(this));
         builder.setNextMove(board.currentPlayer().getOpponent().getAlliance());
+        updateIncrementalState(builder, null);
         return builder.build();
     }
+    protected long updatePieceKeys(long key) {
+        key ^= Zobrist.pieceKey(movedPiece) ^ Zobrist.pieceKey(movedPiece, destination);
+        if (isAttack()) {
+            key ^= Zobrist.pieceKey(getAttackedPiece());
+        }
+        return key;
+    }
+    protected int updateSum(int sum, int[][] table) {
+        int[] movedTable = table[BitBoards.pieceIndex(movedPiece)];
+        sum += movedTable[destination] - movedTable[movedPiece.getPosition()];
+        if (isAttack()) {
+            sum -= table[BitBoards.pieceIndex(getAttackedPiece())][getAttackedPiece().getPosition()];
+        }
+        return sum;
+    }
+    void updateIncrementalState(Builder builder, Pawn nextEnPassantPawn) {
+        builder.setZobristKey(calculateZobristKey(nextEnPassantPawn));
+        builder.setMaterial(updateSum(board.getMaterial(), PieceSquareTables.MATERIAL));
+        builder.setPieceSquareScore(updateSum(board.getPieceSquareScore(), PieceSquareTables.PIECE_SQUARE));
+        builder.setTaperedScore(updateSum(board.getTaperedScore(), TaperedTables.SCORE));
+        builder.setPhase(updateSum(board.getPhase(), TaperedTables.PHASE));
+    }
+    long calculateZobristKey(Pawn nextEnPassantPawn) {
+        int castlingRights = updateCastlingRights(board.getCastlingRights(), movedPiece.getPosition(), destination);
+        long key = updatePieceKeys(board.getZobristKey()) ^ Zobrist.sideKey() ^
+                Zobrist.castlingKey(board.getCastlingRights()) ^ Zobrist.castlingKey(castlingRights);
+        if (board.getEnPassantPawn() != null) {
+            key ^= Zobrist.enPassantKey(board.getEnPassantPawn().getPosition());
+        }
+        if (nextEnPassantPawn != null) {
+            key ^= Zobrist.enPassantKey(nextEnPassantPawn.getPosition());
+        }
+        return key;
+    }
 
     public static final class MajorMove extends Move {
         public MajorMove(Board board, Piece piece, int destination) {
@@ -147,10 +183,18 @@ public abstract class Move {
     public static class PawnPromotion extends Move {
         final Move decoratedMove;
         final Pawn promotedPawn;
+        final PieceType promotionType;
         public PawnPromotion(Move decoratedMove) {
+            this(decoratedMove, PieceType.QUEEN);
+        }
+        public PawnPromotion(Move decoratedMove, PieceType promotionType) {
             super(decoratedMove.board, decoratedMove.movedPiece, decoratedMove.destination);
             this.decoratedMove = decoratedMove;
             this.promotedPawn = (Pawn) decoratedMove.movedPiece;
+            this.promotionType = promotionType;
+        }
+        public PieceType getPromotionType() {
+            return promotionType;
         }
         public boolean isAttack() {
             return decoratedMove.isAttack();
@@ -159,13 +203,14 @@ public abstract class Move {
             return decoratedMove.getAttackedPiece();
         }
         public String toString() {
-            return "";
+            return decoratedMove.toString() + "=" + promotionType;
         }
         public int hashCode() {
-            return decoratedMove.hashCode() + 31 * promotedPawn.hashCode();
+            return decoratedMove.hashCode() + 31 * promotedPawn.hashCode() + promotionType.hashCode();
         }
         public boolean equals(Object other) {
-            return this == other || (other instanceof PawnPromotion && super.equals(other));
+            return this == other || (other instanceof PawnPromotion && super.equals(other) &&
+                    promotionType == ((PawnPromotion) other).promotionType);
         }
         public Board execute() {
             Board pawnMovedBoard = decoratedMove.execute();
@@ -178,10 +223,19 @@ public abstract class Move {
             for (Piece piece: pawnMovedBoard.currentPlayer().getOpponent().getActivePieces()) {
                 builder.setPiece(piece);
             }
-            builder.setPiece(promotedPawn.getPromotionPiece().movePiece(this));
-            builder.setNextMove(pawnMovedBoard.currentPlayer().getOpponent().getAlliance());
+            builder.setPiece(promotedPawn.getPromotionPiece(promotionType).movePiece(this));
+            builder.setNextMove(pawnMovedBoard.currentPlayer().getAlliance());
+            updateIncrementalState(builder, null);
             return builder.build();
         }
+        protected long updatePieceKeys(long key) {
+            return decoratedMove.updatePieceKeys(key) ^ Zobrist.pieceKey(promotedPawn, destination) ^
+                    Zobrist.pieceKey(BitBoards.pieceIndex(promotedPawn.getPieceAlliance(), promotionType), destination);
+        }
+        protected int updateSum(int sum, int[][] table) {
+            return decoratedMove.updateSum(sum, table) - table[BitBoards.pieceIndex(promotedPawn)][destination] +
+                    table[BitBoards.pieceIndex(promotedPawn.getPieceAlliance(), promotionType)][destination];
+        }
     }
     public static final class PawnEnPassant extends PawnAttackMove {
         public PawnEnPassant(Board board, Piece piece, int destination, Piece attackedPiece) {
@@ -204,6 +258,7 @@ public abstract class Move {
             }
             builder.setPiece(movedPiece.movePiece(this));
             builder.setNextMove(board.currentPlayer().getOpponent().getAlliance());
+            updateIncrementalState(builder, null);
             return builder.build();
         }
     }
@@ -225,6 +280,7 @@ public abstract class Move {
             builder.setPiece(movedPawn);
             builder.setEnPassantPawn(movedPawn);
             builder.setNextMove(board.currentPlayer().getOpponent().getAlliance());
+            updateIncrementalState(builder, movedPawn);
             return builder.build();
         }
         public String toString() {
@@ -259,10 +315,19 @@ public abstract class Move {
                 builder.setPiece(currentPiece);
             }
             builder.setPiece(movedPiece.movePiece(this));
-            builder.setPiece(new Rook(castleRook.getPieceAlliance(), castleRookDestination));
+            builder.setPiece(new Rook(castleRook.getPieceAlliance(), castleRookDestination, false));
             builder.setNextMove(board.currentPlayer().getOpponent().getAlliance());
+            updateIncrementalState(builder, null);
             return builder.build();
         }
+        protected long updatePieceKeys(long key) {
+            return super.updatePieceKeys(key) ^ Zobrist.pieceKey(castleRook) ^
+                    Zobrist.pieceKey(castleRook, castleRookDestination);
+        }
+        protected int updateSum(int sum, int[][] table) {
+            int[] rookTable = table[BitBoards.pieceIndex(castleRook)];
+            return super.updateSum(sum, table) + rookTable[castleRookDestination] - rookTable[castleRookStart];
+        }
         public int hashCode() {
             final int prime = 31;
             int result = super.hashCode();
@@ -309,8 +374,31 @@ public abstract class Move {
         public NullMove() {
             super(null, -1);
         }
+        public NullMove(Board board) {
+            super(board, -1);
+        }
         public Board execute() {
-            throw new RuntimeException("cannot execute null move");
+            if (board == null) {
+                throw new RuntimeException("cannot execute null move");
+            }
+            Builder builder = new Builder();
+            for (Piece currentPiece: board.currentPlayer().getActivePieces()) {
+                builder.setPiece(currentPiece);
+            }
+            for (Piece currentPiece: board.currentPlayer().getOpponent().getActivePieces()) {
+                builder.setPiece(currentPiece);
+            }
+            builder.setNextMove(board.currentPlayer().getOpponent().getAlliance());
+            long key = board.getZobristKey() ^ Zobrist.sideKey();
+            if (board.getEnPassantPawn() != null) {
+                key ^= Zobrist.enPassantKey(board.getEnPassantPawn().getPosition());
+            }
+            builder.setZobristKey(key);
+            builder.setMaterial(board.getMaterial());
+            builder.setPieceSquareScore(board.getPieceSquareScore());
+            builder.setTaperedScore(board.getTaperedScore());
+            builder.setPhase(board.getPhase());
+            return builder.build();
         }
     }
     public static class MoveFactory {
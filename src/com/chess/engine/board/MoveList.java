@@ -0,0 +1,95 @@
+package com.chess.engine.board;
+
+public final class MoveList {
+    private final int[] moves;
+    private final int[] scores;
+    private int size;
+
+    public MoveList() {
+        this(SearchBoard.MAX_MOVES);
+    }
+    public MoveList(int capacity) {
+        this.moves = new int[capacity];
+        this.scores = new int[capacity];
+        this.size = 0;
+    }
+    public void add(int move) {
+        moves[size++] = move;
+    }
+    public int get(int index) {
+        return moves[index];
+    }
+    public void set(int index, int move) {
+        moves[index] = move;
+    }
+    public int size() {
+        return size;
+    }
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    public void clear() {
+        size = 0;
+    }
+    public void truncate(int newSize) {
+        size = newSize;
+    }
+    public int getScore(int index) {
+        return scores[index];
+    }
+    public void setScore(int index, int score) {
+        scores[index] = score;
+    }
+    public void swap(int first, int second) {
+        int move = moves[first];
+        moves[first] = moves[second];
+        moves[second] = move;
+        int score = scores[first];
+        scores[first] = scores[second];
+        scores[second] = score;
+    }
+    public int pickBest(int index) {
+        int best = index;
+        for (int i = index + 1; i < size; i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+        if (best != index) {
+            swap(index, best);
+        }
+        return moves[index];
+    }
+    public boolean contains(int move) {
+        for (int i = 0; i < size; i++) {
+            if (moves[i] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+    public boolean moveToFront(int move) {
+        for (int i = 0; i < size; i++) {
+            if (moves[i] == move) {
+                System.arraycopy(moves, 0, moves, 1, i);
+                moves[0] = move;
+                return true;
+            }
+        }
+        return false;
+    }
+    public static MoveList[] createPlyLists(int numPlies) {
+        MoveList[] lists = new MoveList[numPlies];
+        for (int i = 0; i < numPlies; i++) {
+            lists[i] = new MoveList();
+        }
+        return lists;
+    }
+    public String toString() {
+        StringBuilder stb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            stb.append(i == 0 ? "" : " ").append(PackedMove.toString(moves[i]));
+        }
+        return stb.toString();
+    }
+}
@@ -0,0 +1,137 @@
+package com.chess.engine.board;
+
+import com.chess.engine.board.Move.*;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+import com.chess.engine.pieces.Rook;
+
+/*
+ * A move packed into the low 24 bits of an int:
+ * from (6) | to (6) | moved type (3) | captured type (3) | promotion type (3) | flag (3).
+ * Piece types are stored as ordinal + 1 so that 0 means "none".
+ */
+public final class PackedMove {
+    public static final int NULL_MOVE = 0;
+
+    public static final int QUIET = 0;
+    public static final int PAWN_JUMP = 1;
+    public static final int EN_PASSANT = 2;
+    public static final int KING_SIDE_CASTLE = 3;
+    public static final int QUEEN_SIDE_CASTLE = 4;
+
+    private static final int SQUARE_MASK = 0x3F;
+    private static final int FIELD_MASK = 0x7;
+    private static final int TO_SHIFT = 6;
+    private static final int MOVED_SHIFT = 12;
+    private static final int CAPTURED_SHIFT = 15;
+    private static final int PROMOTION_SHIFT = 18;
+    private static final int FLAG_SHIFT = 21;
+
+    private PackedMove() {
+        throw new RuntimeException("not instantiable");
+    }
+
+    public static int create(int from, int to, int movedType, int capturedType, int promotionType, int flag) {
+        return from | (to << TO_SHIFT) | ((movedType + 1) << MOVED_SHIFT) |
+                ((capturedType + 1) << CAPTURED_SHIFT) | ((promotionType + 1) << PROMOTION_SHIFT) |
+                (flag << FLAG_SHIFT);
+    }
+    public static int from(int move) {
+        return move & SQUARE_MASK;
+    }
+    public static int to(int move) {
+        return (move >>> TO_SHIFT) & SQUARE_MASK;
+    }
+    public static int movedType(int move) {
+        return ((move >>> MOVED_SHIFT) & FIELD_MASK) - 1;
+    }
+    public static int capturedType(int move) {
+        return ((move >>> CAPTURED_SHIFT) & FIELD_MASK) - 1;
+    }
+    public static int promotionType(int move) {
+        return ((move >>> PROMOTION_SHIFT) & FIELD_MASK) - 1;
+    }
+    public static int flag(int move) {
+        return (move >>> FLAG_SHIFT) & FIELD_MASK;
+    }
+    public static boolean isCapture(int move) {
+        return capturedType(move) != BitBoards.NO_PIECE;
+    }
+    public static boolean isPromotion(int move) {
+        return promotionType(move) != BitBoards.NO_PIECE;
+    }
+    public static boolean isCastle(int move) {
+        return flag(move) == KING_SIDE_CASTLE || flag(move) == QUEEN_SIDE_CASTLE;
+    }
+    public static boolean isEnPassant(int move) {
+        return flag(move) == EN_PASSANT;
+    }
+    public static boolean isPawnJump(int move) {
+        return flag(move) == PAWN_JUMP;
+    }
+
+    public static int fromMove(Move move) {
+        if (move == null || move == Move.NULL_MOVE) {
+            return NULL_MOVE;
+        }
+        int capturedType = move.isAttack() ? move.getAttackedPiece().getPieceType().ordinal() : BitBoards.NO_PIECE;
+        int promotionType = BitBoards.NO_PIECE;
+        int flag = QUIET;
+        if (move instanceof PawnPromotion) {
+            promotionType = ((PawnPromotion) move).getPromotionType().ordinal();
+        }
+        else if (move instanceof PawnJump) {
+            flag = PAWN_JUMP;
+        }
+        else if (move instanceof PawnEnPassant) {
+            flag = EN_PASSANT;
+        }
+        else if (move instanceof KingSideCastle) {
+            flag = KING_SIDE_CASTLE;
+        }
+        else if (move instanceof QueenSideCastle) {
+            flag = QUEEN_SIDE_CASTLE;
+        }
+        return create(move.getMovedPiece().getPosition(), move.getDestination(),
+                move.getMovedPiece().getPieceType().ordinal(), capturedType, promotionType, flag);
+    }
+
+    public static Move toMove(Board board, int move) {
+        if (move == NULL_MOVE) {
+            return Move.NULL_MOVE;
+        }
+        int from = from(move);
+        int to = to(move);
+        Piece movedPiece = board.getPiece(from);
+        switch (flag(move)) {
+            case KING_SIDE_CASTLE:
+                return new KingSideCastle(board, movedPiece, to, (Rook) board.getPiece(to + 1), to + 1, to - 1);
+            case QUEEN_SIDE_CASTLE:
+                return new QueenSideCastle(board, movedPiece, to, (Rook) board.getPiece(to - 2), to - 2, to + 1);
+            case EN_PASSANT:
+                return new PawnEnPassant(board, movedPiece, to, board.getEnPassantPawn());
+            case PAWN_JUMP:
+                return new PawnJump(board, movedPiece, to);
+            default:
+                break;
+        }
+        Piece attackedPiece = board.getPiece(to);
+        if (movedPiece.getPieceType() == PieceType.PAWN) {
+            Move pawnMove = attackedPiece != null ? new PawnAttackMove(board, movedPiece, to, attackedPiece) :
+                    new PawnMove(board, movedPiece, to);
+            return isPromotion(move) ?
+                    new PawnPromotion(pawnMove, BitBoards.PIECE_TYPES[promotionType(move)]) : pawnMove;
+        }
+        return attackedPiece != null ? new MajorAttackMove(board, movedPiece, to, attackedPiece) :
+                new MajorMove(board, movedPiece, to);
+    }
+
+    public static String toString(int move) {
+        if (move == NULL_MOVE) {
+            return "0000";
+        }
+        String text = Board.getPositionAtCoordinate(from(move)) + Board.getPositionAtCoordinate(to(move));
+        return isPromotion(move) ?
+                text + BitBoards.PIECE_TYPES[promotionType(move)].toString().toLowerCase() : text;
+    }
+}
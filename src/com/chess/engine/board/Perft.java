@@ -0,0 +1,151 @@
+package com.chess.engine.board;
+
+import com.chess.pgn.FenUtilities;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class Perft {
+    public enum ReferencePosition {
+        START("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+                20, 400, 8902, 197281, 4865609),
+        KIWIPETE("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                48, 2039, 97862, 4085603),
+        ENDGAME("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+                14, 191, 2812, 43238, 674624),
+        PROMOTIONS("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+                6, 264, 9467, 422333),
+        CHECKS("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+                44, 1486, 62379, 2103487),
+        MIDDLEGAME("r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+                46, 2079, 89890, 3894594);
+
+        private final String fen;
+        private final long[] nodeCounts;
+
+        ReferencePosition(String fen, long... nodeCounts) {
+            this.fen = fen;
+            this.nodeCounts = nodeCounts;
+        }
+        public String getFen() {
+            return fen;
+        }
+        public Board createBoard() {
+            return FenUtilities.createGameFromFEN(fen);
+        }
+        public int getMaxDepth() {
+            return nodeCounts.length;
+        }
+        public long getNodeCount(int depth) {
+            return nodeCounts[depth - 1];
+        }
+    }
+
+    private Perft() {
+        throw new RuntimeException("not instantiable");
+    }
+
+    public static long perft(Board board, int depth) {
+        return perft(board, depth, true);
+    }
+
+    public static long perft(Board board, int depth, boolean bulkCounting) {
+        if (depth == 0) {
+            return 1;
+        }
+        List<Move> moves = board.currentPlayer().getLegalMoves();
+        if (bulkCounting && depth == 1) {
+            return moves.size();
+        }
+        long nodes = 0;
+        for (Move move: moves) {
+            nodes += perft(move.execute(), depth - 1, bulkCounting);
+        }
+        return nodes;
+    }
+
+    public static long perft(SearchBoard board, int depth) {
+        return perft(board, depth, true);
+    }
+
+    public static long perft(SearchBoard board, int depth, boolean bulkCounting) {
+        return perft(board, depth, bulkCounting, MoveList.createPlyLists(depth + 1));
+    }
+
+    private static long perft(SearchBoard board, int depth, boolean bulkCounting, MoveList[] moveLists) {
+        if (depth == 0) {
+            return 1;
+        }
+        MoveList moves = moveLists[depth];
+        board.generateLegalMoves(moves);
+        if (bulkCounting && depth == 1) {
+            return moves.size();
+        }
+        long nodes = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            board.makeMove(moves.get(i));
+            nodes += perft(board, depth - 1, bulkCounting, moveLists);
+            board.unmakeMove();
+        }
+        return nodes;
+    }
+
+    public static Map<String, Long> divide(Board board, int depth, boolean bulkCounting) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Move move: board.currentPlayer().getLegalMoves()) {
+            result.put(PackedMove.toString(PackedMove.fromMove(move)),
+                    perft(move.execute(), depth - 1, bulkCounting));
+        }
+        return result;
+    }
+
+    public static Map<String, Long> divide(SearchBoard board, int depth, boolean bulkCounting) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        MoveList[] moveLists = MoveList.createPlyLists(depth + 1);
+        MoveList rootMoves = new MoveList();
+        board.generateLegalMoves(rootMoves);
+        for (int i = 0; i < rootMoves.size(); i++) {
+            board.makeMove(rootMoves.get(i));
+            result.put(PackedMove.toString(rootMoves.get(i)), perft(board, depth - 1, bulkCounting, moveLists));
+            board.unmakeMove();
+        }
+        return result;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.out.println("usage: Perft <depth> [fen] [--board] [--no-bulk]");
+            return;
+        }
+        int depth = Integer.parseInt(args[0]);
+        String fen = ReferencePosition.START.getFen();
+        boolean useBoard = false;
+        boolean bulkCounting = true;
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].equals("--board")) {
+                useBoard = true;
+            }
+            else if (args[i].equals("--no-bulk")) {
+                bulkCounting = false;
+            }
+            else {
+                fen = args[i];
+            }
+        }
+        Board board = FenUtilities.createGameFromFEN(fen);
+        long startTime = System.nanoTime();
+        Map<String, Long> divide = useBoard ? divide(board, depth, bulkCounting) :
+                divide(new SearchBoard(board), depth, bulkCounting);
+        long elapsed = System.nanoTime() - startTime;
+        long nodes = 0;
+        for (Map.Entry<String, Long> entry: divide.entrySet()) {
+            System.out.println(entry.getKey() + ": " + entry.getValue());
+            nodes += entry.getValue();
+        }
+        System.out.println();
+        System.out.println("Nodes: " + nodes);
+        System.out.println("Time: " + elapsed / 1000000 + " ms");
+        System.out.println("NPS: " + (elapsed == 0 ? 0 : nodes * 1000000000L / elapsed));
+    }
+}
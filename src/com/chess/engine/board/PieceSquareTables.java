@@ -0,0 +1,119 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Piece;
+
+import java.util.Arrays;
+
+public final class PieceSquareTables {
+    private static final int[] PAWN_TABLE = {
+             0,   0,   0,   0,   0,   0,   0,   0,
+            50,  50,  50,  50,  50,  50,  50,  50,
+            10,  10,  20,  30,  30,  20,  10,  10,
+             5,   5,  10,  25,  25,  10,   5,   5,
+             0,   0,   0,  20,  20,   0,   0,   0,
+             5,  -5, -10,   0,   0, -10,  -5,   5,
+             5,  10,  10, -20, -20,  10,  10,   5,
+             0,   0,   0,   0,   0,   0,   0,   0};
+    private static final int[] KNIGHT_TABLE = {
+           -50, -40, -30, -30, -30, -30, -40, -50,
+           -40, -20,   0,   0,   0,   0, -20, -40,
+           -30,   0,  10,  15,  15,  10,   0, -30,
+           -30,   5,  15,  20,  20,  15,   5, -30,
+           -30,   0,  15,  20,  20,  15,   0, -30,
+           -30,   5,  10,  15,  15,  10,   5, -30,
+           -40, -20,   0,   5,   5,   0, -20, -40,
+           -50, -40, -30, -30, -30, -30, -40, -50};
+    private static final int[] BISHOP_TABLE = {
+           -20, -10, -10, -10, -10, -10, -10, -20,
+           -10,   0,   0,   0,   0,   0,   0, -10,
+           -10,   0,   5,  10,  10,   5,   0, -10,
+           -10,   5,   5,  10,  10,   5,   5, -10,
+           -10,   0,  10,  10,  10,  10,   0, -10,
+           -10,  10,  10,  10,  10,  10,  10, -10,
+           -10,   5,   0,   0,   0,   0,   5, -10,
+           -20, -10, -10, -10, -10, -10, -10, -20};
+    private static final int[] ROOK_TABLE = {
+             0,   0,   0,   0,   0,   0,   0,   0,
+             5,  10,  10,  10,  10,  10,  10,   5,
+            -5,   0,   0,   0,   0,   0,   0,  -5,
+            -5,   0,   0,   0,   0,   0,   0,  -5,
+            -5,   0,   0,   0,   0,   0,   0,  -5,
+            -5,   0,   0,   0,   0,   0,   0,  -5,
+            -5,   0,   0,   0,   0,   0,   0,  -5,
+             0,   0,   0,   5,   5,   0,   0,   0};
+    private static final int[] QUEEN_TABLE = {
+           -20, -10, -10,  -5,  -5, -10, -10, -20,
+           -10,   0,   0,   0,   0,   0,   0, -10,
+           -10,   0,   5,   5,   5,   5,   0, -10,
+            -5,   0,   5,   5,   5,   5,   0,  -5,
+             0,   0,   5,   5,   5,   5,   0,  -5,
+           -10,   5,   5,   5,   5,   5,   0, -10,
+           -10,   0,   5,   0,   0,   0,   0, -10,
+           -20, -10, -10,  -5,  -5, -10, -10, -20};
+    private static final int[] KING_TABLE = {
+           -30, -40, -40, -50, -50, -40, -40, -30,
+           -30, -40, -40, -50, -50, -40, -40, -30,
+           -30, -40, -40, -50, -50, -40, -40, -30,
+           -30, -40, -40, -50, -50, -40, -40, -30,
+           -20, -30, -30, -40, -40, -30, -30, -20,
+           -10, -20, -20, -20, -20, -20, -20, -10,
+            20,  20,   0,   0,   0,   0,  20,  20,
+            20,  30,  10,   0,   0,  10,  30,  20};
+    private static final int[][] WHITE_TABLES = {
+            PAWN_TABLE, KNIGHT_TABLE, BISHOP_TABLE, ROOK_TABLE, QUEEN_TABLE, KING_TABLE};
+    static final int[][] MATERIAL = createMaterial();
+    static final int[][] PIECE_SQUARE = createPieceSquare();
+
+    private PieceSquareTables() {
+        throw new RuntimeException("not instantiable");
+    }
+
+    public static int material(int pieceIndex) {
+        return MATERIAL[pieceIndex][0];
+    }
+    public static int pieceSquare(int pieceIndex, int coordinate) {
+        return PIECE_SQUARE[pieceIndex][coordinate];
+    }
+
+    public static int calculateMaterial(Board board) {
+        return calculateSum(board, MATERIAL);
+    }
+    public static int calculatePieceSquareScore(Board board) {
+        return calculateSum(board, PIECE_SQUARE);
+    }
+    static int calculateSum(Board board, int[][] table) {
+        int sum = 0;
+        for (int pieceIndex = 0; pieceIndex < BitBoards.NUM_PIECE_INDEXES; pieceIndex++) {
+            long bitBoard = board.getPieceBitBoard(pieceIndex);
+            while (bitBoard != 0) {
+                sum += table[pieceIndex][BitBoards.firstSquare(bitBoard)];
+                bitBoard = BitBoards.clearFirstSquare(bitBoard);
+            }
+        }
+        return sum;
+    }
+
+    private static int[][] createMaterial() {
+        int[][] material = new int[BitBoards.NUM_PIECE_INDEXES][Board.NUM_SQUARES];
+        for (Alliance alliance: BitBoards.ALLIANCES) {
+            for (Piece.PieceType pieceType: BitBoards.PIECE_TYPES) {
+                int value = pieceType.getPieceValue();
+                Arrays.fill(material[BitBoards.pieceIndex(alliance, pieceType)],
+                        alliance == Alliance.WHITE ? value : -value);
+            }
+        }
+        return material;
+    }
+    private static int[][] createPieceSquare() {
+        int[][] pieceSquare = new int[BitBoards.NUM_PIECE_INDEXES][Board.NUM_SQUARES];
+        for (int pieceType = 0; pieceType < BitBoards.NUM_PIECE_TYPES; pieceType++) {
+            for (int i = 0; i < Board.NUM_SQUARES; i++) {
+                pieceSquare[BitBoards.pieceIndex(Alliance.WHITE.ordinal(), pieceType)][i] = WHITE_TABLES[pieceType][i];
+                pieceSquare[BitBoards.pieceIndex(Alliance.BLACK.ordinal(), pieceType)][i] =
+                        -WHITE_TABLES[pieceType][i ^ 56];
+            }
+        }
+        return pieceSquare;
+    }
+}
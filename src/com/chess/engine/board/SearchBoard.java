@@ -0,0 +1,586 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.*;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import static com.chess.engine.board.Board.*;
+
+public final class SearchBoard {
+    public static final int WHITE = 0;
+    public static final int BLACK = 1;
+    public static final int MAX_PLY = 256;
+    public static final int MAX_MOVES = 256;
+    public static final int NO_SQUARE = -1;
+
+    private static final int PAWN = PieceType.PAWN.ordinal();
+    private static final int KNIGHT = PieceType.KNIGHT.ordinal();
+    private static final int BISHOP = PieceType.BISHOP.ordinal();
+    private static final int ROOK = PieceType.ROOK.ordinal();
+    private static final int QUEEN = PieceType.QUEEN.ordinal();
+    private static final int KING = PieceType.KING.ordinal();
+
+    private static final int[] PROMOTION_TYPES = {QUEEN, ROOK, BISHOP, KNIGHT};
+
+    private final int[] pieces;
+    private final long[] pieceBitBoards;
+    private final long[] sideOccupancy;
+    private long occupancy;
+    private int sideToMove;
+    private int castlingRights;
+    private int enPassantPawn;
+    private int ply;
+    private long zobristKey;
+    private long pawnKey;
+    private int material;
+    private int pieceSquareScore;
+    private int taperedScore;
+    private int phase;
+
+    private final int[] moveHistory;
+    private final int[] castlingHistory;
+    private final int[] enPassantHistory;
+    private final long[] keyHistory;
+    private final MoveList scratchMoves;
+
+    public SearchBoard(Board board) {
+        pieces = new int[Board.NUM_SQUARES];
+        pieceBitBoards = new long[BitBoards.NUM_PIECE_INDEXES];
+        sideOccupancy = new long[BitBoards.ALLIANCES.length];
+        moveHistory = new int[MAX_PLY];
+        castlingHistory = new int[MAX_PLY];
+        enPassantHistory = new int[MAX_PLY];
+        keyHistory = new long[MAX_PLY];
+        scratchMoves = new MoveList();
+        for (int i = 0; i < Board.NUM_SQUARES; i++) {
+            pieces[i] = BitBoards.NO_PIECE;
+        }
+        for (int pieceIndex = 0; pieceIndex < BitBoards.NUM_PIECE_INDEXES; pieceIndex++) {
+            long bitBoard = board.getPieceBitBoard(pieceIndex);
+            while (bitBoard != 0) {
+                putPiece(BitBoards.firstSquare(bitBoard), pieceIndex);
+                bitBoard = BitBoards.clearFirstSquare(bitBoard);
+            }
+        }
+        sideToMove = board.currentPlayer().getAlliance().ordinal();
+        enPassantPawn = board.getEnPassantPawn() == null ? NO_SQUARE : board.getEnPassantPawn().getPosition();
+        castlingRights = board.getCastlingRights();
+        zobristKey = board.getZobristKey();
+        ply = 0;
+    }
+
+    public Alliance getSideToMove() {
+        return BitBoards.ALLIANCES[sideToMove];
+    }
+    public int getSide() {
+        return sideToMove;
+    }
+    public int getPiece(int coordinate) {
+        return pieces[coordinate];
+    }
+    public long getPieceBitBoard(int side, int pieceType) {
+        return pieceBitBoards[BitBoards.pieceIndex(side, pieceType)];
+    }
+    public long getOccupancy(int side) {
+        return sideOccupancy[side];
+    }
+    public long getOccupancy() {
+        return occupancy;
+    }
+    public int getCastlingRights() {
+        return castlingRights;
+    }
+    public int getEnPassantPawn() {
+        return enPassantPawn;
+    }
+    public int getPly() {
+        return ply;
+    }
+    public long getZobristKey() {
+        return zobristKey;
+    }
+    public long getPawnKey() {
+        return pawnKey;
+    }
+    public int getMaterial() {
+        return material;
+    }
+    public int getPieceSquareScore() {
+        return pieceSquareScore;
+    }
+    public int getTaperedScore() {
+        return taperedScore;
+    }
+    public int getPhase() {
+        return phase;
+    }
+
+    private void putPiece(int coordinate, int pieceIndex) {
+        long bit = BitBoards.squareBit(coordinate);
+        pieces[coordinate] = pieceIndex;
+        zobristKey ^= Zobrist.pieceKey(pieceIndex, coordinate);
+        pawnKey ^= Zobrist.pawnKey(pieceIndex, coordinate);
+        material += PieceSquareTables.material(pieceIndex);
+        pieceSquareScore += PieceSquareTables.pieceSquare(pieceIndex, coordinate);
+        taperedScore += TaperedTables.score(pieceIndex, coordinate);
+        phase += TaperedTables.phase(pieceIndex);
+        pieceBitBoards[pieceIndex] |= bit;
+        sideOccupancy[BitBoards.sideOf(pieceIndex)] |= bit;
+        occupancy |= bit;
+    }
+    private void removePiece(int coordinate) {
+        int pieceIndex = pieces[coordinate];
+        long bit = BitBoards.squareBit(coordinate);
+        pieces[coordinate] = BitBoards.NO_PIECE;
+        zobristKey ^= Zobrist.pieceKey(pieceIndex, coordinate);
+        pawnKey ^= Zobrist.pawnKey(pieceIndex, coordinate);
+        material -= PieceSquareTables.material(pieceIndex);
+        pieceSquareScore -= PieceSquareTables.pieceSquare(pieceIndex, coordinate);
+        taperedScore -= TaperedTables.score(pieceIndex, coordinate);
+        phase -= TaperedTables.phase(pieceIndex);
+        pieceBitBoards[pieceIndex] &= ~bit;
+        sideOccupancy[BitBoards.sideOf(pieceIndex)] &= ~bit;
+        occupancy &= ~bit;
+    }
+    private void movePiece(int from, int to) {
+        int pieceIndex = pieces[from];
+        long fromTo = BitBoards.squareBit(from) | BitBoards.squareBit(to);
+        pieces[from] = BitBoards.NO_PIECE;
+        pieces[to] = pieceIndex;
+        zobristKey ^= Zobrist.pieceKey(pieceIndex, from) ^ Zobrist.pieceKey(pieceIndex, to);
+        pawnKey ^= Zobrist.pawnKey(pieceIndex, from) ^ Zobrist.pawnKey(pieceIndex, to);
+        pieceSquareScore += PieceSquareTables.pieceSquare(pieceIndex, to) -
+                PieceSquareTables.pieceSquare(pieceIndex, from);
+        taperedScore += TaperedTables.score(pieceIndex, to) - TaperedTables.score(pieceIndex, from);
+        pieceBitBoards[pieceIndex] ^= fromTo;
+        sideOccupancy[BitBoards.sideOf(pieceIndex)] ^= fromTo;
+        occupancy ^= fromTo;
+    }
+
+    public void makeMove(Move move) {
+        makeMove(PackedMove.fromMove(move));
+    }
+
+    public void makeMove(int move) {
+        int from = PackedMove.from(move);
+        int to = PackedMove.to(move);
+        int flag = PackedMove.flag(move);
+        int side = BitBoards.sideOf(pieces[from]);
+        moveHistory[ply] = move;
+        castlingHistory[ply] = castlingRights;
+        enPassantHistory[ply] = enPassantPawn;
+        keyHistory[ply] = zobristKey;
+        zobristKey ^= Zobrist.castlingKey(castlingRights) ^ Zobrist.enPassantKey(enPassantPawn);
+        if (flag == PackedMove.EN_PASSANT) {
+            removePiece(enPassantPawn);
+        }
+        else if (PackedMove.isCapture(move)) {
+            removePiece(to);
+        }
+        movePiece(from, to);
+        if (PackedMove.isPromotion(move)) {
+            removePiece(to);
+            putPiece(to, BitBoards.pieceIndex(side, PackedMove.promotionType(move)));
+        }
+        else if (flag == PackedMove.KING_SIDE_CASTLE) {
+            movePiece(to + 1, to - 1);
+        }
+        else if (flag == PackedMove.QUEEN_SIDE_CASTLE) {
+            movePiece(to - 2, to + 1);
+        }
+        castlingRights = Board.updateCastlingRights(castlingRights, from, to);
+        enPassantPawn = flag == PackedMove.PAWN_JUMP ? to : NO_SQUARE;
+        zobristKey ^= Zobrist.castlingKey(castlingRights) ^ Zobrist.enPassantKey(enPassantPawn) ^
+                Zobrist.sideKey();
+        sideToMove ^= 1;
+        ply++;
+    }
+
+    public void unmakeMove() {
+        ply--;
+        sideToMove ^= 1;
+        int move = moveHistory[ply];
+        int from = PackedMove.from(move);
+        int to = PackedMove.to(move);
+        int flag = PackedMove.flag(move);
+        int side = BitBoards.sideOf(pieces[to]);
+        castlingRights = castlingHistory[ply];
+        enPassantPawn = enPassantHistory[ply];
+        if (PackedMove.isPromotion(move)) {
+            removePiece(to);
+            putPiece(to, BitBoards.pieceIndex(side, PAWN));
+        }
+        else if (flag == PackedMove.KING_SIDE_CASTLE) {
+            movePiece(to - 1, to + 1);
+        }
+        else if (flag == PackedMove.QUEEN_SIDE_CASTLE) {
+            movePiece(to + 1, to - 2);
+        }
+        movePiece(to, from);
+        if (PackedMove.isCapture(move)) {
+            putPiece(flag == PackedMove.EN_PASSANT ? enPassantPawn : to,
+                    BitBoards.pieceIndex(side ^ 1, PackedMove.capturedType(move)));
+        }
+        zobristKey = keyHistory[ply];
+    }
+
+    public void makeNullMove() {
+        moveHistory[ply] = PackedMove.NULL_MOVE;
+        castlingHistory[ply] = castlingRights;
+        enPassantHistory[ply] = enPassantPawn;
+        keyHistory[ply] = zobristKey;
+        zobristKey ^= Zobrist.enPassantKey(enPassantPawn) ^ Zobrist.sideKey();
+        enPassantPawn = NO_SQUARE;
+        sideToMove ^= 1;
+        ply++;
+    }
+
+    public void unmakeNullMove() {
+        ply--;
+        sideToMove ^= 1;
+        enPassantPawn = enPassantHistory[ply];
+        zobristKey = keyHistory[ply];
+    }
+
+    public boolean hasNonPawnMaterial(int side) {
+        return (getPieceBitBoard(side, KNIGHT) | getPieceBitBoard(side, BISHOP) |
+                getPieceBitBoard(side, ROOK) | getPieceBitBoard(side, QUEEN)) != 0;
+    }
+
+    public boolean inCheck() {
+        return isKingAttacked(sideToMove);
+    }
+
+    public boolean isKingAttacked(int side) {
+        long king = getPieceBitBoard(side, KING);
+        return king != 0 && isSquareAttacked(BitBoards.firstSquare(king), side ^ 1);
+    }
+
+    public long attackersTo(int coordinate, int bySide, long occupancy) {
+        long queens = getPieceBitBoard(bySide, QUEEN);
+        return (AttackTables.pawnAttacks(bySide ^ 1, coordinate) & getPieceBitBoard(bySide, PAWN)) |
+                (AttackTables.knightAttacks(coordinate) & getPieceBitBoard(bySide, KNIGHT)) |
+                (AttackTables.kingAttacks(coordinate) & getPieceBitBoard(bySide, KING)) |
+                (AttackTables.rookAttacks(coordinate, occupancy) & (getPieceBitBoard(bySide, ROOK) | queens)) |
+                (AttackTables.bishopAttacks(coordinate, occupancy) & (getPieceBitBoard(bySide, BISHOP) | queens));
+    }
+
+    public boolean isSquareAttacked(int coordinate, int bySide) {
+        if ((AttackTables.pawnAttacks(bySide ^ 1, coordinate) & getPieceBitBoard(bySide, PAWN)) != 0 ||
+                (AttackTables.knightAttacks(coordinate) & getPieceBitBoard(bySide, KNIGHT)) != 0 ||
+                (AttackTables.kingAttacks(coordinate) & getPieceBitBoard(bySide, KING)) != 0) {
+            return true;
+        }
+        long queens = getPieceBitBoard(bySide, QUEEN);
+        return (AttackTables.rookAttacks(coordinate, occupancy) & (getPieceBitBoard(bySide, ROOK) | queens)) != 0 ||
+                (AttackTables.bishopAttacks(coordinate, occupancy) & (getPieceBitBoard(bySide, BISHOP) | queens)) != 0;
+    }
+
+    private static int pawnDirection(int side) {
+        return BitBoards.ALLIANCES[side].getDirection() * Board.NUM_SQUARES_PER_ROW;
+    }
+
+    public void generateMoves(MoveList moves) {
+        generateMoves(sideToMove, moves);
+    }
+
+    public void generateMoves(int side, MoveList moves) {
+        moves.clear();
+        for (int pieceType = PAWN; pieceType <= KING; pieceType++) {
+            long bitBoard = getPieceBitBoard(side, pieceType);
+            while (bitBoard != 0) {
+                int from = BitBoards.firstSquare(bitBoard);
+                bitBoard = BitBoards.clearFirstSquare(bitBoard);
+                if (pieceType == PAWN) {
+                    generatePawnMoves(side, from, moves);
+                }
+                else if (pieceType == KNIGHT) {
+                    generateTargetMoves(from, AttackTables.knightAttacks(from) & ~sideOccupancy[side], moves);
+                }
+                else if (pieceType == BISHOP) {
+                    generateTargetMoves(from, AttackTables.bishopAttacks(from, occupancy) & ~sideOccupancy[side], moves);
+                }
+                else if (pieceType == ROOK) {
+                    generateTargetMoves(from, AttackTables.rookAttacks(from, occupancy) & ~sideOccupancy[side], moves);
+                }
+                else if (pieceType == QUEEN) {
+                    generateTargetMoves(from, AttackTables.queenAttacks(from, occupancy) & ~sideOccupancy[side], moves);
+                }
+                else {
+                    generateTargetMoves(from, AttackTables.kingAttacks(from) & ~sideOccupancy[side], moves);
+                    generateCastleMoves(side, from, moves);
+                }
+            }
+        }
+    }
+
+    private void addMove(MoveList moves, int from, int to, int flag) {
+        moves.add(PackedMove.create(from, to, BitBoards.typeOf(pieces[from]),
+                pieces[to] == BitBoards.NO_PIECE ? BitBoards.NO_PIECE : BitBoards.typeOf(pieces[to]),
+                BitBoards.NO_PIECE, flag));
+    }
+
+    private void addPawnMove(MoveList moves, int side, int from, int to) {
+        if (!BitBoards.ALLIANCES[side].isPawnPromotionSquare(to)) {
+            addMove(moves, from, to, PackedMove.QUIET);
+            return;
+        }
+        int capturedType = pieces[to] == BitBoards.NO_PIECE ? BitBoards.NO_PIECE : BitBoards.typeOf(pieces[to]);
+        for (int promotionType: PROMOTION_TYPES) {
+            moves.add(PackedMove.create(from, to, PAWN, capturedType, promotionType, PackedMove.QUIET));
+        }
+    }
+
+    private void generatePawnMoves(int side, int from, MoveList moves) {
+        int direction = pawnDirection(side);
+        int forward = from + direction;
+        if (pieces[forward] == BitBoards.NO_PIECE) {
+            addPawnMove(moves, side, from, forward);
+            int startRow = side == WHITE ? 6 : 1;
+            int jump = forward + direction;
+            if (from / Board.NUM_SQUARES_PER_ROW == startRow && pieces[jump] == BitBoards.NO_PIECE) {
+                addMove(moves, from, jump, PackedMove.PAWN_JUMP);
+            }
+        }
+        long attacks = AttackTables.pawnAttacks(side, from);
+        long captures = attacks & sideOccupancy[side ^ 1];
+        while (captures != 0) {
+            addPawnMove(moves, side, from, BitBoards.firstSquare(captures));
+            captures = BitBoards.clearFirstSquare(captures);
+        }
+        if (enPassantPawn != NO_SQUARE && BitBoards.sideOf(pieces[enPassantPawn]) != side &&
+                BitBoards.isSet(attacks, enPassantPawn + direction)) {
+            moves.add(PackedMove.create(from, enPassantPawn + direction, PAWN, PAWN, BitBoards.NO_PIECE,
+                    PackedMove.EN_PASSANT));
+        }
+    }
+
+    private void generateTargetMoves(int from, long targets, MoveList moves) {
+        while (targets != 0) {
+            addMove(moves, from, BitBoards.firstSquare(targets), PackedMove.QUIET);
+            targets = BitBoards.clearFirstSquare(targets);
+        }
+    }
+
+    private void generateCastleMoves(int side, int from, MoveList moves) {
+        int kingSide = side == WHITE ? WHITE_KING_SIDE : BLACK_KING_SIDE;
+        int queenSide = side == WHITE ? WHITE_QUEEN_SIDE : BLACK_QUEEN_SIDE;
+        if ((castlingRights & (kingSide | queenSide)) == 0 || isSquareAttacked(from, side ^ 1)) {
+            return;
+        }
+        if ((castlingRights & kingSide) != 0 &&
+                pieces[from + 1] == BitBoards.NO_PIECE && pieces[from + 2] == BitBoards.NO_PIECE &&
+                !isSquareAttacked(from + 1, side ^ 1) && !isSquareAttacked(from + 2, side ^ 1)) {
+            addMove(moves, from, from + 2, PackedMove.KING_SIDE_CASTLE);
+        }
+        if ((castlingRights & queenSide) != 0 && pieces[from - 1] == BitBoards.NO_PIECE &&
+                pieces[from - 2] == BitBoards.NO_PIECE && pieces[from - 3] == BitBoards.NO_PIECE &&
+                !isSquareAttacked(from - 1, side ^ 1) && !isSquareAttacked(from - 2, side ^ 1)) {
+            addMove(moves, from, from - 2, PackedMove.QUEEN_SIDE_CASTLE);
+        }
+    }
+
+    public void generateLegalMoves(MoveList moves) {
+        generateLegalMoves(sideToMove, moves);
+    }
+
+    public void generateLegalMoves(int side, MoveList moves) {
+        generateMoves(side, moves);
+        filterLegalMoves(side, moves);
+    }
+
+    public void generateLegalCaptures(MoveList moves) {
+        generateMoves(sideToMove, moves);
+        int captureCount = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            if (PackedMove.isCapture(move) || PackedMove.isPromotion(move)) {
+                moves.set(captureCount++, move);
+            }
+        }
+        moves.truncate(captureCount);
+        filterLegalMoves(sideToMove, moves);
+    }
+
+    private void filterLegalMoves(int side, MoveList moves) {
+        long king = getPieceBitBoard(side, KING);
+        if (king == 0) {
+            return;
+        }
+        int kingSquare = BitBoards.firstSquare(king);
+        long checkers = attackersTo(kingSquare, side ^ 1, occupancy);
+        long queens = getPieceBitBoard(side ^ 1, QUEEN);
+        long pinned = AttackTables.pinnedPieces(kingSquare, sideOccupancy[side], occupancy,
+                getPieceBitBoard(side ^ 1, ROOK) | queens, getPieceBitBoard(side ^ 1, BISHOP) | queens);
+        int legalCount = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            if (isLegal(move, side, kingSquare, checkers, pinned)) {
+                moves.set(legalCount++, move);
+            }
+        }
+        moves.truncate(legalCount);
+    }
+
+    private boolean isLegal(int move, int side, int kingSquare, long checkers, long pinned) {
+        int from = PackedMove.from(move);
+        int to = PackedMove.to(move);
+        if (from == kingSquare) {
+            return PackedMove.isCastle(move) ||
+                    attackersTo(to, side ^ 1, occupancy ^ BitBoards.squareBit(from)) == 0;
+        }
+        if (PackedMove.isEnPassant(move)) {
+            long captured = BitBoards.squareBit(enPassantPawn);
+            long occupancyAfter = (occupancy ^ BitBoards.squareBit(from) ^ captured) | BitBoards.squareBit(to);
+            return (attackersTo(kingSquare, side ^ 1, occupancyAfter) & ~captured) == 0;
+        }
+        if (BitBoards.count(checkers) > 1) {
+            return false;
+        }
+        if (checkers != 0 && !BitBoards.isSet(checkers |
+                AttackTables.between(kingSquare, BitBoards.firstSquare(checkers)), to)) {
+            return false;
+        }
+        return !BitBoards.isSet(pinned, from) || BitBoards.isSet(AttackTables.line(kingSquare, from), to);
+    }
+
+    public int countLegalMoves(int side) {
+        generateLegalMoves(side, scratchMoves);
+        return scratchMoves.size();
+    }
+
+    public boolean hasLegalMoves() {
+        return hasLegalMoves(sideToMove);
+    }
+
+    public boolean hasLegalMoves(int side) {
+        long king = getPieceBitBoard(side, KING);
+        if (king == 0) {
+            return countLegalMoves(side) != 0;
+        }
+        int kingSquare = BitBoards.firstSquare(king);
+        long own = sideOccupancy[side];
+        long kingTargets = AttackTables.kingAttacks(kingSquare) & ~own;
+        while (kingTargets != 0) {
+            if (attackersTo(BitBoards.firstSquare(kingTargets), side ^ 1, occupancy ^ king) == 0) {
+                return true;
+            }
+            kingTargets = BitBoards.clearFirstSquare(kingTargets);
+        }
+        long checkers = attackersTo(kingSquare, side ^ 1, occupancy);
+        if (BitBoards.count(checkers) > 1) {
+            return false;
+        }
+        long targets = checkers == 0 ? ~own :
+                checkers | AttackTables.between(kingSquare, BitBoards.firstSquare(checkers));
+        long queens = getPieceBitBoard(side ^ 1, QUEEN);
+        long pinned = AttackTables.pinnedPieces(kingSquare, own, occupancy,
+                getPieceBitBoard(side ^ 1, ROOK) | queens, getPieceBitBoard(side ^ 1, BISHOP) | queens);
+        for (int pieceType = PAWN; pieceType < KING; pieceType++) {
+            long bitBoard = getPieceBitBoard(side, pieceType);
+            while (bitBoard != 0) {
+                int from = BitBoards.firstSquare(bitBoard);
+                bitBoard = BitBoards.clearFirstSquare(bitBoard);
+                long moves = (pieceType == PAWN ? pawnTargets(side, from) : pieceTargets(pieceType, from)) & targets;
+                if (BitBoards.isSet(pinned, from)) {
+                    moves &= AttackTables.line(kingSquare, from);
+                }
+                if (moves != 0) {
+                    return true;
+                }
+            }
+        }
+        return enPassantPawn != NO_SQUARE && hasLegalEnPassant(side, kingSquare);
+    }
+
+    private long pawnTargets(int side, int from) {
+        int direction = pawnDirection(side);
+        long targets = AttackTables.pawnAttacks(side, from) & sideOccupancy[side ^ 1];
+        int forward = from + direction;
+        if (pieces[forward] == BitBoards.NO_PIECE) {
+            targets |= BitBoards.squareBit(forward);
+            int startRow = side == WHITE ? 6 : 1;
+            if (from / Board.NUM_SQUARES_PER_ROW == startRow && pieces[forward + direction] == BitBoards.NO_PIECE) {
+                targets |= BitBoards.squareBit(forward + direction);
+            }
+        }
+        return targets;
+    }
+
+    private long pieceTargets(int pieceType, int from) {
+        if (pieceType == KNIGHT) {
+            return AttackTables.knightAttacks(from);
+        }
+        if (pieceType == BISHOP) {
+            return AttackTables.bishopAttacks(from, occupancy);
+        }
+        if (pieceType == ROOK) {
+            return AttackTables.rookAttacks(from, occupancy);
+        }
+        return AttackTables.queenAttacks(from, occupancy);
+    }
+
+    private boolean hasLegalEnPassant(int side, int kingSquare) {
+        if (BitBoards.sideOf(pieces[enPassantPawn]) == side) {
+            return false;
+        }
+        int to = enPassantPawn + pawnDirection(side);
+        long captured = BitBoards.squareBit(enPassantPawn);
+        long capturers = AttackTables.pawnAttacks(side ^ 1, to) & getPieceBitBoard(side, PAWN);
+        while (capturers != 0) {
+            long from = BitBoards.squareBit(BitBoards.firstSquare(capturers));
+            long occupancyAfter = (occupancy ^ from ^ captured) | BitBoards.squareBit(to);
+            if ((attackersTo(kingSquare, side ^ 1, occupancyAfter) & ~captured) == 0) {
+                return true;
+            }
+            capturers = BitBoards.clearFirstSquare(capturers);
+        }
+        return false;
+    }
+
+    public Board toBoard() {
+        Board.Builder builder = new Board.Builder();
+        for (int i = 0; i < Board.NUM_SQUARES; i++) {
+            if (pieces[i] != BitBoards.NO_PIECE) {
+                builder.setPiece(createPiece(i, pieces[i]));
+            }
+        }
+        if (enPassantPawn != NO_SQUARE) {
+            builder.setEnPassantPawn((Pawn) createPiece(enPassantPawn, pieces[enPassantPawn]));
+        }
+        builder.setNextMove(getSideToMove());
+        return builder.build();
+    }
+
+    private Piece createPiece(int coordinate, int pieceIndex) {
+        Alliance alliance = BitBoards.ALLIANCES[BitBoards.sideOf(pieceIndex)];
+        int pieceType = BitBoards.typeOf(pieceIndex);
+        int kingSide = alliance == Alliance.WHITE ? WHITE_KING_SIDE : BLACK_KING_SIDE;
+        int queenSide = alliance == Alliance.WHITE ? WHITE_QUEEN_SIDE : BLACK_QUEEN_SIDE;
+        if (pieceType == PAWN) {
+            return new Pawn(alliance, coordinate);
+        }
+        if (pieceType == KNIGHT) {
+            return new Knight(alliance, coordinate);
+        }
+        if (pieceType == BISHOP) {
+            return new Bishop(alliance, coordinate);
+        }
+        if (pieceType == ROOK) {
+            boolean castleRook = (coordinate == kingSquare(alliance) + 3 && (castlingRights & kingSide) != 0) ||
+                    (coordinate == kingSquare(alliance) - 4 && (castlingRights & queenSide) != 0);
+            return new Rook(alliance, coordinate, castleRook);
+        }
+        if (pieceType == QUEEN) {
+            return new Queen(alliance, coordinate);
+        }
+        boolean kingSideCapable = (castlingRights & kingSide) != 0;
+        boolean queenSideCapable = (castlingRights & queenSide) != 0;
+        return new King(alliance, coordinate, kingSideCapable || queenSideCapable, false,
+                kingSideCapable, queenSideCapable);
+    }
+
+    private static int kingSquare(Alliance alliance) {
+        return alliance == Alliance.WHITE ? 60 : 4;
+    }
+}
@@ -0,0 +1,92 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Piece;
+
+import java.util.Random;
+
+public final class Zobrist {
+    private static final Random RANDOM = new Random(0x5EED5EEDL);
+    private static final long[][] PIECE_KEYS = createKeys(BitBoards.NUM_PIECE_INDEXES, Board.NUM_SQUARES);
+    private static final long[] CASTLING_KEYS = createKeys(1, 16)[0];
+    private static final long[] EN_PASSANT_KEYS = createKeys(1, Board.NUM_SQUARES_PER_ROW)[0];
+    private static final long SIDE_KEY = RANDOM.nextLong();
+    private static final long[][] PAWN_KEYS = createPawnKeys();
+
+    private Zobrist() {
+        throw new RuntimeException("not instantiable");
+    }
+
+    public static long pieceKey(int pieceIndex, int coordinate) {
+        return PIECE_KEYS[pieceIndex][coordinate];
+    }
+    public static long pieceKey(Piece piece, int coordinate) {
+        return PIECE_KEYS[BitBoards.pieceIndex(piece.getPieceAlliance(), piece.getPieceType())][coordinate];
+    }
+    public static long pieceKey(Piece piece) {
+        return pieceKey(piece, piece.getPosition());
+    }
+    public static long pawnKey(int pieceIndex, int coordinate) {
+        return PAWN_KEYS[pieceIndex][coordinate];
+    }
+    public static long castlingKey(int castlingRights) {
+        return CASTLING_KEYS[castlingRights];
+    }
+    public static long enPassantKey(int pawnCoordinate) {
+        return pawnCoordinate < 0 ? 0 : EN_PASSANT_KEYS[pawnCoordinate % Board.NUM_SQUARES_PER_ROW];
+    }
+    public static long sideKey() {
+        return SIDE_KEY;
+    }
+
+    public static long calculateKey(Board board) {
+        long key = 0;
+        for (int pieceIndex = 0; pieceIndex < BitBoards.NUM_PIECE_INDEXES; pieceIndex++) {
+            long bitBoard = board.getPieceBitBoard(pieceIndex);
+            while (bitBoard != 0) {
+                key ^= pieceKey(pieceIndex, BitBoards.firstSquare(bitBoard));
+                bitBoard = BitBoards.clearFirstSquare(bitBoard);
+            }
+        }
+        key ^= castlingKey(board.getCastlingRights());
+        if (board.getEnPassantPawn() != null) {
+            key ^= enPassantKey(board.getEnPassantPawn().getPosition());
+        }
+        if (board.currentPlayer().getAlliance() == Alliance.BLACK) {
+            key ^= SIDE_KEY;
+        }
+        return key;
+    }
+
+    public static long calculatePawnKey(Board board) {
+        long key = 0;
+        for (Alliance alliance: BitBoards.ALLIANCES) {
+            int pieceIndex = BitBoards.pieceIndex(alliance, Piece.PieceType.PAWN);
+            long bitBoard = board.getPieceBitBoard(pieceIndex);
+            while (bitBoard != 0) {
+                key ^= pawnKey(pieceIndex, BitBoards.firstSquare(bitBoard));
+                bitBoard = BitBoards.clearFirstSquare(bitBoard);
+            }
+        }
+        return key;
+    }
+
+    private static long[][] createKeys(int rows, int columns) {
+        long[][] keys = new long[rows][columns];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                keys[i][j] = RANDOM.nextLong();
+            }
+        }
+        return keys;
+    }
+
+    private static long[][] createPawnKeys() {
+        long[][] keys = new long[BitBoards.NUM_PIECE_INDEXES][Board.NUM_SQUARES];
+        for (Alliance alliance: BitBoards.ALLIANCES) {
+            int pieceIndex = BitBoards.pieceIndex(alliance, Piece.PieceType.PAWN);
+            keys[pieceIndex] = PIECE_KEYS[pieceIndex].clone();
+        }
+        return keys;
+    }
+}
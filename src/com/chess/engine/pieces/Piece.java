@@ -1,9 +1,14 @@
 package com.chess.engine.pieces;
 
 import com.chess.engine.Alliance;
+import com.chess.engine.board.BitBoards;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.Move;
+import com.chess.engine.board.Move.MajorAttackMove;
+import com.chess.engine.board.Move.MajorMove;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public abstract class Piece {
@@ -64,6 +69,23 @@ public abstract class Piece {
     }
     public abstract List<Move> getLegalMoves(Board board);
 
+    protected List<Move> calculateTargetMoves(Board board, long attacks) {
+        List<Move> legalMoves = new ArrayList<>();
+        long targets = attacks & ~board.getOccupancy(pieceAlliance);
+        while (targets != 0) {
+            int destination = BitBoards.firstSquare(targets);
+            Piece otherPiece = board.getPiece(destination);
+            if (otherPiece == null) {
+                legalMoves.add(new MajorMove(board, this, destination));
+            }
+            else {
+                legalMoves.add(new MajorAttackMove(board, this, destination, otherPiece));
+            }
+            targets = BitBoards.clearFirstSquare(targets);
+        }
+        return Collections.unmodifiableList(legalMoves);
+    }
+
     public int getPieceValue() {
         return pieceType.getPieceValue();
     }
@@ -7,7 +7,6 @@ import com.chess.engine.pieces.King;
 import com.chess.engine.pieces.Piece;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 public abstract class Player {
@@ -15,36 +14,31 @@ public abstract class Player {
     protected final King playerKing;
     protected final List<Move> legalMoves;
     private final boolean inCheck;
-    Player(Board board, List<Move> legalMoves, List<Move> opponentMoves) {
+    Player(Board board, List<Move> legalMoves) {
         this.board = board;
         this.playerKing = establishKing();
+        this.inCheck = board.isSquareAttacked(playerKing.getPosition(), getAlliance().opposite());
         this.legalMoves = new ArrayList<>();
         for (Move move: legalMoves) {
             this.legalMoves.add(move);
         }
-        for (Move move: calculateKingCastle(legalMoves, opponentMoves)) {
+        for (Move move: calculateKingCastle()) {
             this.legalMoves.add(move);
         }
-        inCheck = !Player.calculateAttacks(playerKing.getPosition(), opponentMoves).isEmpty();
     }
 
-    protected static List<Move> calculateAttacks(int position, List<Move> opponentMoves) {
-        List<Move> attackMoves = new ArrayList<>();
-        for (Move move: opponentMoves) {
-            if (position == move.getDestination()) {
-                attackMoves.add(move);
-            }
-        }
-        return Collections.unmodifiableList(attackMoves);
+    protected boolean isCastlePathSafe(int first, int second) {
+        return !board.isSquareAttacked(first, getAlliance().opposite()) &&
+                !board.isSquareAttacked(second, getAlliance().opposite());
+    }
+
+    protected boolean isCastleRook(int coordinate) {
+        Piece rook = board.getPiece(coordinate);
+        return rook != null && rook.isRook() && rook.isFirstMove() && rook.getPieceAlliance() == getAlliance();
     }
 
     private King establishKing() {
-        for (Piece piece: getActivePieces()) {
-            if (piece.isKing()) {
-                return (King) piece;
-            }
-        }
-        throw new RuntimeException("Not a valid board");
+        return (King) board.getPiece(board.getKingPosition(getAlliance()));
     }
     public boolean isMoveLegal(Move move) {
         return legalMoves.contains(move);
@@ -59,13 +53,7 @@ public abstract class Player {
         return legalMoves;
     }
     private boolean hasEscapeMoves() {
-        for (Move move: legalMoves) {
-            MoveTransition transition = makeMove(move);
-            if (transition.getMoveStatus().isDone()) {
-                return true;
-            }
-        }
-        return false;
+        return !legalMoves.isEmpty();
     }
 
     public boolean inStalemate() {
@@ -84,16 +72,10 @@ public abstract class Player {
         if (!isMoveLegal(move)) {
             return new MoveTransition(board, move, MoveStatus.ILLEGAL_MOVE);
         }
-        Board transitionBoard = move.execute();
-        final List<Move> kingAttacks = Player.calculateAttacks(transitionBoard.currentPlayer()
-                .getOpponent().playerKing.getPosition(), transitionBoard.currentPlayer().legalMoves);
-        if (!kingAttacks.isEmpty()) {
-            return new MoveTransition(board, move, MoveStatus.IN_CHECK);
-        }
-        return new MoveTransition(transitionBoard, move, MoveStatus.DONE);
+        return new MoveTransition(move.execute(), move, MoveStatus.DONE);
     }
     public abstract List<Piece> getActivePieces();
     public abstract Alliance getAlliance();
     public abstract Player getOpponent();
-    public abstract List<Move> calculateKingCastle(List<Move> playerLegals, List<Move> opponentLegals);
+    public abstract List<Move> calculateKingCastle();
 }
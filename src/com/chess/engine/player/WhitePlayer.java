@@ -3,7 +3,6 @@ package com.chess.engine.player;
 import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.Move;
-import com.chess.engine.board.Square;
 import com.chess.engine.pieces.Piece;
 import com.chess.engine.pieces.Rook;
 
@@ -15,7 +14,7 @@ import static com.chess.engine.board.Move.*;
 
 public class WhitePlayer extends Player {
     public WhitePlayer(Board board, List<Move> whiteLegalMoves, List<Move> blackLegalMoves) {
-        super(board, whiteLegalMoves, blackLegalMoves);
+        super(board, whiteLegalMoves);
     }
     public List<Piece> getActivePieces() {
         return board.getWhitePieces();
@@ -33,31 +32,20 @@ public class WhitePlayer extends Player {
     }
 
     @Override
-    public List<Move> calculateKingCastle(List<Move> playerLegals, List<Move> opponentLegals) {
+    public List<Move> calculateKingCastle() {
         List<Move> kingCastles = new ArrayList<>();
         if (playerKing.isFirstMove() && !this.inCheck()) {
-            if (!board.getSquare(61).occupied() && !board.getSquare(62).occupied()) {
-                Square rookSquare = board.getSquare(63);
-                if (rookSquare.occupied() && rookSquare.getPiece().isRook()
-                        && rookSquare.getPiece().isFirstMove()) {
-                    if (Player.calculateAttacks(61, opponentLegals).isEmpty()
-                            && Player.calculateAttacks(62, opponentLegals).isEmpty()) {
-                        kingCastles.add(new KingSideCastle(board, playerKing, 62,
-                                (Rook) rookSquare.getPiece(), rookSquare.getCoordinate(), 61));
-                    }
-                }
+            if (playerKing.kingSideCastleCapable() && !board.getSquare(61).occupied()
+                    && !board.getSquare(62).occupied() && isCastleRook(63)
+                    && isCastlePathSafe(61, 62)) {
+                kingCastles.add(new KingSideCastle(board, playerKing, 62,
+                        (Rook) board.getPiece(63), 63, 61));
             }
-            if (!board.getSquare(59).occupied() && !board.getSquare(58).occupied()
-                    && !board.getSquare(57).occupied()) {
-                Square rookSquare = board.getSquare(56);
-                if (rookSquare.occupied() && rookSquare.getPiece().isRook()
-                        && rookSquare.getPiece().isFirstMove()) {
-                    if (Player.calculateAttacks(58, opponentLegals).isEmpty()
-                            && Player.calculateAttacks(59, opponentLegals).isEmpty()) {
-                        kingCastles.add(new QueenSideCastle(board, playerKing, 58,
-                                (Rook) rookSquare.getPiece(), rookSquare.getCoordinate(), 59));
-                    }
-                }
+            if (playerKing.queenSideCastleCapable() && !board.getSquare(59).occupied()
+                    && !board.getSquare(58).occupied() && !board.getSquare(57).occupied()
+                    && isCastleRook(56) && isCastlePathSafe(59, 58)) {
+                kingCastles.add(new QueenSideCastle(board, playerKing, 58,
+                        (Rook) board.getPiece(56), 56, 59));
             }
         }
         return Collections.unmodifiableList(kingCastles);
@@ -0,0 +1,517 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.BitBoards;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.MoveList;
+import com.chess.engine.board.PackedMove;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.pieces.Piece.PieceType;
+
+public class AlphaBeta implements MoveStrategy {
+    public static final int INFINITY = Integer.MAX_VALUE;
+    public static final int MAX_DEPTH = 64;
+    public static final int MATE_VALUE = 1000000;
+    private static final int TIME_CHECK_MASK = 2047;
+    private static final int SMP_TABLE_SIZE_MB = 16;
+    private static final int DELTA_MARGIN = 200;
+    private static final int MATE_THRESHOLD = MATE_VALUE - SearchBoard.MAX_PLY;
+    private static final int NULL_MOVE_MIN_DEPTH = 3;
+    private static final int LMR_MIN_DEPTH = 3;
+    private static final int LMR_MIN_MOVES = 3;
+    private static final int[][] REDUCTIONS = createReductions();
+    private static final int QUEEN_VALUE = PieceType.QUEEN.getPieceValue();
+    private static final int[] PIECE_VALUES = createPieceValues();
+    private final BoardEvaluator boardEvaluator;
+    private final int searchDepth;
+    private final TimeManager timeManager;
+    private final TranspositionTable transpositionTable;
+    private final MoveOrdering moveOrdering;
+    private final boolean quiescence;
+    private final boolean deltaPruning;
+    private final boolean nullMovePruning;
+    private final boolean principalVariationSearch;
+    private final boolean lateMoveReductions;
+    private final int threads;
+    private volatile boolean stopRequested;
+    private SearchListener searchListener;
+    private SearchStats searchStats;
+    private SearchStats.Builder statsBuilder;
+    private long startTime;
+    private long quiescenceNodeCount;
+    private long expandedNodeCount;
+    private long betaCutoffs;
+    private long firstMoveCutoffs;
+    private long tableProbes;
+    private long tableHits;
+    private MoveList[] moveLists;
+    private long nodeCount;
+    private int bestValue;
+    private int completedDepth;
+    private boolean aborted;
+    public AlphaBeta(int searchDepth) {
+        this(new Builder().setSearchDepth(searchDepth));
+    }
+    public AlphaBeta(int searchDepth, BoardEvaluator boardEvaluator) {
+        this(new Builder().setSearchDepth(searchDepth).setBoardEvaluator(boardEvaluator));
+    }
+    private AlphaBeta(Builder builder) {
+        this.boardEvaluator = builder.boardEvaluator;
+        this.searchDepth = builder.searchDepth;
+        this.timeManager = builder.timeManager;
+        this.transpositionTable = builder.transpositionTable == null && builder.threads > 1 ?
+                new TranspositionTable(SMP_TABLE_SIZE_MB) : builder.transpositionTable;
+        this.moveOrdering = builder.moveOrdering;
+        this.quiescence = builder.quiescence;
+        this.deltaPruning = builder.deltaPruning;
+        this.nullMovePruning = builder.nullMovePruning;
+        this.principalVariationSearch = builder.principalVariationSearch;
+        this.lateMoveReductions = builder.lateMoveReductions;
+        this.threads = builder.threads;
+    }
+    private AlphaBeta(AlphaBeta mainSearch) {
+        this.boardEvaluator = mainSearch.boardEvaluator;
+        this.searchDepth = mainSearch.searchDepth;
+        this.timeManager = null;
+        this.transpositionTable = mainSearch.transpositionTable;
+        this.moveOrdering = mainSearch.moveOrdering == null ? null : new MoveOrdering();
+        this.quiescence = mainSearch.quiescence;
+        this.deltaPruning = mainSearch.deltaPruning;
+        this.nullMovePruning = mainSearch.nullMovePruning;
+        this.principalVariationSearch = mainSearch.principalVariationSearch;
+        this.lateMoveReductions = mainSearch.lateMoveReductions;
+        this.threads = 1;
+    }
+    private static int[] createPieceValues() {
+        int[] values = new int[BitBoards.NUM_PIECE_TYPES];
+        for (PieceType pieceType: BitBoards.PIECE_TYPES) {
+            values[pieceType.ordinal()] = pieceType.getPieceValue();
+        }
+        return values;
+    }
+    private static int[][] createReductions() {
+        int[][] reductions = new int[MAX_DEPTH + 1][SearchBoard.MAX_MOVES];
+        for (int depth = 1; depth <= MAX_DEPTH; depth++) {
+            for (int moveNumber = 1; moveNumber < SearchBoard.MAX_MOVES; moveNumber++) {
+                reductions[depth][moveNumber] = (int) (0.75 + Math.log(depth) * Math.log(moveNumber) / 2.25);
+            }
+        }
+        return reductions;
+    }
+    public Move execute(Board board) {
+        final SearchBoard searchBoard = new SearchBoard(board);
+        if (timeManager != null) {
+            timeManager.start();
+        }
+        if (transpositionTable != null) {
+            transpositionTable.newSearch();
+        }
+        prepareSearch();
+        newSearch();
+        final MoveList rootMoves = new MoveList();
+        searchBoard.generateLegalMoves(rootMoves);
+        if (rootMoves.isEmpty()) {
+            searchStats = createSearchStats(0, PackedMove.toString(PackedMove.NULL_MOVE));
+            return null;
+        }
+        final AlphaBeta[] helpers = new AlphaBeta[threads - 1];
+        final Thread[] helperThreads = new Thread[threads - 1];
+        for (int i = 0; i < helpers.length; i++) {
+            helpers[i] = new AlphaBeta(this);
+            helperThreads[i] = startHelper(helpers[i], board, rootMoves, i + 1);
+        }
+        final int bestMove = iterate(searchBoard, rootMoves, 1);
+        for (int i = 0; i < helpers.length; i++) {
+            helpers[i].stopRequested = true;
+            try {
+                helperThreads[i].join();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            nodeCount += helpers[i].nodeCount;
+            quiescenceNodeCount += helpers[i].quiescenceNodeCount;
+        }
+        searchStats = createSearchStats(completedDepth, PackedMove.toString(bestMove));
+        return PackedMove.toMove(board, bestMove);
+    }
+    private void prepareSearch() {
+        if (moveLists == null) {
+            moveLists = MoveList.createPlyLists(SearchBoard.MAX_PLY);
+        }
+        nodeCount = 0;
+        completedDepth = 0;
+        aborted = false;
+        stopRequested = false;
+        quiescenceNodeCount = 0;
+        expandedNodeCount = 0;
+        betaCutoffs = 0;
+        firstMoveCutoffs = 0;
+        tableProbes = 0;
+        tableHits = 0;
+        statsBuilder = new SearchStats.Builder();
+        startTime = System.nanoTime();
+    }
+    void newSearch() {
+        if (moveOrdering != null) {
+            moveOrdering.newSearch();
+        }
+    }
+    private static Thread startHelper(final AlphaBeta helper, final Board board, MoveList rootMoves,
+                                      final int helperIndex) {
+        final MoveList helperMoves = new MoveList();
+        for (int i = 0; i < rootMoves.size(); i++) {
+            helperMoves.add(rootMoves.get(i));
+        }
+        helperMoves.moveToFront(helperMoves.get(helperIndex % helperMoves.size()));
+        helper.prepareSearch();
+        helper.newSearch();
+        final Thread thread = new Thread(new Runnable() {
+            public void run() {
+                helper.iterate(new SearchBoard(board), helperMoves, 1 + helperIndex % 2);
+            }
+        }, "AlphaBeta helper " + helperIndex);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+    private int iterate(SearchBoard searchBoard, MoveList rootMoves, int startDepth) {
+        int bestMove = rootMoves.get(0);
+        for (int depth = startDepth; depth <= searchDepth; depth++) {
+            final long iterationStart = System.nanoTime();
+            final long iterationNodes = nodeCount;
+            int move = searchRoot(searchBoard, rootMoves, depth);
+            if (aborted) {
+                break;
+            }
+            bestMove = move;
+            completedDepth = depth;
+            rootMoves.moveToFront(move);
+            statsBuilder.addIteration(nodeCount - iterationNodes, System.nanoTime() - iterationStart);
+            if (searchListener != null) {
+                searchListener.iterationCompleted(createSearchStats(depth, PackedMove.toString(move)));
+            }
+            if (timeManager != null && !timeManager.canStartIteration()) {
+                break;
+            }
+        }
+        return bestMove;
+    }
+    private int searchRoot(SearchBoard board, MoveList rootMoves, int depth) {
+        int bestMove = PackedMove.NULL_MOVE;
+        int alpha = -INFINITY;
+        for (int i = 0; i < rootMoves.size(); i++) {
+            final int move = rootMoves.get(i);
+            board.makeMove(move);
+            int currentValue;
+            if (principalVariationSearch && i > 0) {
+                currentValue = -negamax(board, depth - 1, -alpha - 1, -alpha);
+                if (currentValue > alpha) {
+                    currentValue = -negamax(board, depth - 1, -INFINITY, -alpha);
+                }
+            }
+            else {
+                currentValue = -negamax(board, depth - 1, -INFINITY, -alpha);
+            }
+            board.unmakeMove();
+            if (aborted) {
+                return PackedMove.NULL_MOVE;
+            }
+            if (currentValue > alpha || bestMove == PackedMove.NULL_MOVE) {
+                alpha = currentValue;
+                bestMove = move;
+            }
+        }
+        bestValue = board.getSide() == SearchBoard.WHITE ? alpha : -alpha;
+        return bestMove;
+    }
+    public int search(SearchBoard board, int depth, int alpha, int beta) {
+        prepareSearch();
+        final int value = negamax(board, depth, alpha, beta);
+        searchStats = createSearchStats(depth, PackedMove.toString(PackedMove.NULL_MOVE));
+        return value;
+    }
+    private SearchStats createSearchStats(int depth, String bestMove) {
+        return statsBuilder
+                .setDepth(depth)
+                .setBestMove(bestMove)
+                .setBestValue(bestValue)
+                .setNodes(nodeCount, quiescenceNodeCount, expandedNodeCount)
+                .setCutoffs(betaCutoffs, firstMoveCutoffs)
+                .setTableProbes(tableProbes, tableHits)
+                .setElapsedNanos(System.nanoTime() - startTime)
+                .build();
+    }
+    public int negamax(SearchBoard board, int depth, int alpha, int beta) {
+        return negamax(board, depth, alpha, beta, true);
+    }
+    private int negamax(SearchBoard board, int depth, int alpha, int beta, boolean allowNullMove) {
+        nodeCount++;
+        if ((nodeCount & TIME_CHECK_MASK) == 0 && isStopped()) {
+            aborted = true;
+        }
+        if (aborted) {
+            return 0;
+        }
+        final int ply = board.getPly();
+        if (depth == 0 || ply >= SearchBoard.MAX_PLY - 1) {
+            return quiescence ? quiescence(board, alpha, beta) : evaluate(board, depth);
+        }
+        final long key = board.getZobristKey();
+        int hashMove = PackedMove.NULL_MOVE;
+        if (transpositionTable != null) {
+            long entry = transpositionTable.probe(key);
+            tableProbes++;
+            if (entry != TranspositionTable.NO_ENTRY) {
+                tableHits++;
+                hashMove = TranspositionTable.getMove(entry);
+                if (TranspositionTable.getDepth(entry) >= depth) {
+                    int score = TranspositionTable.getScore(entry, ply);
+                    int bound = TranspositionTable.getBound(entry);
+                    if (bound == TranspositionTable.BOUND_EXACT) {
+                        return Math.max(alpha, Math.min(beta, score));
+                    }
+                    if (bound == TranspositionTable.BOUND_LOWER && score >= beta) {
+                        return beta;
+                    }
+                    if (bound == TranspositionTable.BOUND_UPPER && score <= alpha) {
+                        return alpha;
+                    }
+                }
+            }
+        }
+        final boolean inCheck = board.inCheck();
+        if (nullMovePruning && allowNullMove && depth >= NULL_MOVE_MIN_DEPTH && !inCheck &&
+                beta < MATE_THRESHOLD && board.hasNonPawnMaterial(board.getSide())) {
+            int reduction = depth > 6 ? 3 : 2;
+            board.makeNullMove();
+            int nullValue = -negamax(board, Math.max(0, depth - 1 - reduction), -beta, -beta + 1, false);
+            board.unmakeNullMove();
+            if (aborted) {
+                return 0;
+            }
+            if (nullValue >= beta) {
+                return beta;
+            }
+        }
+        final MoveList moves = moveLists[ply];
+        board.generateLegalMoves(moves);
+        if (moves.isEmpty()) {
+            return inCheck ? -MATE_VALUE + ply : 0;
+        }
+        expandedNodeCount++;
+        if (moveOrdering != null) {
+            moveOrdering.scoreMoves(board, moves, hashMove, ply);
+        }
+        else if (hashMove != PackedMove.NULL_MOVE) {
+            moves.moveToFront(hashMove);
+        }
+        final int originalAlpha = alpha;
+        int bestMove = PackedMove.NULL_MOVE;
+        for (int i = 0; i < moves.size(); i++) {
+            final int move = moveOrdering != null ? moves.pickBest(i) : moves.get(i);
+            board.makeMove(move);
+            int currentValue;
+            if (principalVariationSearch && i > 0) {
+                int reduction = 0;
+                if (lateMoveReductions && depth >= LMR_MIN_DEPTH && i >= LMR_MIN_MOVES && !inCheck &&
+                        !PackedMove.isCapture(move) && !PackedMove.isPromotion(move) && !board.inCheck() &&
+                        (moveOrdering == null || !moveOrdering.isKiller(move, ply))) {
+                    reduction = Math.min(REDUCTIONS[Math.min(depth, MAX_DEPTH)][i], depth - 2);
+                }
+                currentValue = -negamax(board, depth - 1 - reduction, -alpha - 1, -alpha, true);
+                if (currentValue > alpha && reduction > 0) {
+                    currentValue = -negamax(board, depth - 1, -alpha - 1, -alpha, true);
+                }
+                if (currentValue > alpha && currentValue < beta) {
+                    currentValue = -negamax(board, depth - 1, -beta, -alpha, true);
+                }
+            }
+            else {
+                currentValue = -negamax(board, depth - 1, -beta, -alpha, true);
+            }
+            board.unmakeMove();
+            if (aborted) {
+                return 0;
+            }
+            if (currentValue >= beta) {
+                betaCutoffs++;
+                if (i == 0) {
+                    firstMoveCutoffs++;
+                }
+                if (moveOrdering != null) {
+                    moveOrdering.updateCutoff(board.getSide(), move, ply, depth);
+                }
+                store(key, move, beta, depth, TranspositionTable.BOUND_LOWER, ply);
+                return beta;
+            }
+            if (currentValue > alpha) {
+                alpha = currentValue;
+                bestMove = move;
+            }
+        }
+        store(key, bestMove, alpha, depth,
+                alpha > originalAlpha ? TranspositionTable.BOUND_EXACT : TranspositionTable.BOUND_UPPER, ply);
+        return alpha;
+    }
+    public int quiescence(SearchBoard board, int alpha, int beta) {
+        nodeCount++;
+        quiescenceNodeCount++;
+        if ((nodeCount & TIME_CHECK_MASK) == 0 && isStopped()) {
+            aborted = true;
+        }
+        if (aborted) {
+            return 0;
+        }
+        final int ply = board.getPly();
+        final boolean inCheck = board.inCheck();
+        final MoveList moves = moveLists[ply];
+        int standPat = 0;
+        if (inCheck) {
+            board.generateLegalMoves(moves);
+            if (moves.isEmpty()) {
+                return -MATE_VALUE + ply;
+            }
+        }
+        else {
+            standPat = evaluate(board, 0);
+            if (standPat >= beta) {
+                return beta;
+            }
+            if (deltaPruning && standPat + QUEEN_VALUE + DELTA_MARGIN <= alpha) {
+                return alpha;
+            }
+            alpha = Math.max(alpha, standPat);
+            board.generateLegalCaptures(moves);
+        }
+        if (ply >= SearchBoard.MAX_PLY - 1) {
+            return inCheck ? evaluate(board, 0) : alpha;
+        }
+        if (moveOrdering != null) {
+            moveOrdering.scoreMoves(board, moves, PackedMove.NULL_MOVE, ply);
+        }
+        for (int i = 0; i < moves.size(); i++) {
+            final int move = moveOrdering != null ? moves.pickBest(i) : moves.get(i);
+            if (deltaPruning && !inCheck && !PackedMove.isPromotion(move) &&
+                    standPat + PIECE_VALUES[PackedMove.capturedType(move)] + DELTA_MARGIN <= alpha) {
+                continue;
+            }
+            board.makeMove(move);
+            int currentValue = -quiescence(board, -beta, -alpha);
+            board.unmakeMove();
+            if (aborted) {
+                return 0;
+            }
+            if (currentValue >= beta) {
+                return beta;
+            }
+            alpha = Math.max(alpha, currentValue);
+        }
+        return alpha;
+    }
+    private boolean isStopped() {
+        return stopRequested || (timeManager != null && timeManager.isTimeUp());
+    }
+    private void store(long key, int move, int score, int depth, int bound, int ply) {
+        if (transpositionTable != null) {
+            transpositionTable.store(key, move, score, depth, bound, ply);
+        }
+    }
+    private int evaluate(SearchBoard board, int depth) {
+        int score = boardEvaluator.evaluate(board, depth);
+        return board.getSide() == SearchBoard.WHITE ? score : -score;
+    }
+    public long getNodeCount() {
+        return nodeCount;
+    }
+    public int getBestValue() {
+        return bestValue;
+    }
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+    public SearchStats getSearchStats() {
+        return searchStats;
+    }
+    public void setSearchListener(SearchListener searchListener) {
+        this.searchListener = searchListener;
+    }
+    public int getThreads() {
+        return threads;
+    }
+    public String toString() {
+        return "AlphaBeta";
+    }
+
+    public static class Builder {
+        BoardEvaluator boardEvaluator;
+        int searchDepth;
+        TimeManager timeManager;
+        TranspositionTable transpositionTable;
+        MoveOrdering moveOrdering;
+        boolean quiescence;
+        boolean deltaPruning;
+        boolean nullMovePruning;
+        boolean principalVariationSearch;
+        boolean lateMoveReductions;
+        int threads;
+        public Builder() {
+            boardEvaluator = new StandardBoardEvaluator();
+            searchDepth = MAX_DEPTH;
+            moveOrdering = new MoveOrdering();
+            quiescence = true;
+            deltaPruning = true;
+            nullMovePruning = true;
+            principalVariationSearch = true;
+            lateMoveReductions = true;
+            threads = 1;
+        }
+        public Builder setBoardEvaluator(BoardEvaluator boardEvaluator) {
+            this.boardEvaluator = boardEvaluator;
+            return this;
+        }
+        public Builder setSearchDepth(int searchDepth) {
+            this.searchDepth = searchDepth;
+            return this;
+        }
+        public Builder setTimeManager(TimeManager timeManager) {
+            this.timeManager = timeManager;
+            return this;
+        }
+        public Builder setTranspositionTable(TranspositionTable transpositionTable) {
+            this.transpositionTable = transpositionTable;
+            return this;
+        }
+        public Builder setMoveOrdering(MoveOrdering moveOrdering) {
+            this.moveOrdering = moveOrdering;
+            return this;
+        }
+        public Builder setQuiescence(boolean quiescence) {
+            this.quiescence = quiescence;
+            return this;
+        }
+        public Builder setDeltaPruning(boolean deltaPruning) {
+            this.deltaPruning = deltaPruning;
+            return this;
+        }
+        public Builder setNullMovePruning(boolean nullMovePruning) {
+            this.nullMovePruning = nullMovePruning;
+            return this;
+        }
+        public Builder setPrincipalVariationSearch(boolean principalVariationSearch) {
+            this.principalVariationSearch = principalVariationSearch;
+            return this;
+        }
+        public Builder setLateMoveReductions(boolean lateMoveReductions) {
+            this.lateMoveReductions = lateMoveReductions;
+            return this;
+        }
+        public Builder setThreads(int threads) {
+            this.threads = Math.max(1, threads);
+            return this;
+        }
+        public AlphaBeta build() {
+            return new AlphaBeta(this);
+        }
+    }
+}
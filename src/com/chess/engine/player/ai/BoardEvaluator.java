@@ -1,7 +1,9 @@
 package com.chess.engine.player.ai;
 
 import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
 
 public interface BoardEvaluator {
     public int evaluate(Board board, int depth);
+    public int evaluate(SearchBoard board, int depth);
 }
@@ -0,0 +1,88 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * Wraps another evaluator and remembers its scores by Zobrist key. The depth is mixed into the key
+ * because evaluators may use it (StandardBoardEvaluator scales its mate bonus by depth).
+ */
+public final class CachedBoardEvaluator implements BoardEvaluator {
+    public static final int DEFAULT_SIZE_MB = 4;
+
+    private static final long DEPTH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final BoardEvaluator boardEvaluator;
+    private final ScoreTable table;
+    private final LongAdder probes;
+    private final LongAdder hits;
+
+    public CachedBoardEvaluator(BoardEvaluator boardEvaluator) {
+        this(boardEvaluator, DEFAULT_SIZE_MB);
+    }
+
+    public CachedBoardEvaluator(BoardEvaluator boardEvaluator, int sizeInMb) {
+        this.boardEvaluator = boardEvaluator;
+        this.table = new ScoreTable(sizeInMb);
+        this.probes = new LongAdder();
+        this.hits = new LongAdder();
+    }
+
+    public int evaluate(Board board, int depth) {
+        long key = cacheKey(board.getZobristKey(), depth);
+        long entry = probe(key);
+        if (entry != ScoreTable.NO_ENTRY) {
+            return ScoreTable.getScore(entry);
+        }
+        int score = boardEvaluator.evaluate(board, depth);
+        table.store(key, score);
+        return score;
+    }
+
+    public int evaluate(SearchBoard board, int depth) {
+        long key = cacheKey(board.getZobristKey(), depth);
+        long entry = probe(key);
+        if (entry != ScoreTable.NO_ENTRY) {
+            return ScoreTable.getScore(entry);
+        }
+        int score = boardEvaluator.evaluate(board, depth);
+        table.store(key, score);
+        return score;
+    }
+
+    public void clear() {
+        table.clear();
+        probes.reset();
+        hits.reset();
+    }
+
+    public int capacity() {
+        return table.capacity();
+    }
+    public long getProbes() {
+        return probes.sum();
+    }
+    public long getHits() {
+        return hits.sum();
+    }
+    public double getHitRate() {
+        long probeCount = probes.sum();
+        return probeCount == 0 ? 0 : (double) hits.sum() / probeCount;
+    }
+
+    private long probe(long key) {
+        probes.increment();
+        long entry = table.probe(key);
+        if (entry != ScoreTable.NO_ENTRY) {
+            hits.increment();
+        }
+        return entry;
+    }
+
+    private static long cacheKey(long zobristKey, int depth) {
+        long key = zobristKey ^ (depth + 1) * DEPTH_MULTIPLIER;
+        return key ^ (key >>> 32);
+    }
+}
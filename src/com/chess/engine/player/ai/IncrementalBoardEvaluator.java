@@ -0,0 +1,14 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
+
+public final class IncrementalBoardEvaluator implements BoardEvaluator {
+    public int evaluate(Board board, int depth) {
+        return board.getMaterial() + board.getPieceSquareScore();
+    }
+
+    public int evaluate(SearchBoard board, int depth) {
+        return board.getMaterial() + board.getPieceSquareScore();
+    }
+}
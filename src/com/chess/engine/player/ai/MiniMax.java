@@ -3,77 +3,126 @@ package com.chess.engine.player.ai;
 import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.Move;
-import com.chess.engine.player.MoveTransition;
+import com.chess.engine.board.MoveList;
+import com.chess.engine.board.PackedMove;
+import com.chess.engine.board.SearchBoard;
 
 public class MiniMax implements MoveStrategy {
     private final BoardEvaluator boardEvaluator;
     private final int searchDepth;
+    private final MoveList[] moveLists;
+    private long nodeCount;
+    private SearchListener searchListener;
+    private SearchStats searchStats;
     public MiniMax(int searchDepth) {
-        this.boardEvaluator = new StandardBoardEvaluator();
+        this(searchDepth, new StandardBoardEvaluator());
+    }
+    public MiniMax(int searchDepth, BoardEvaluator boardEvaluator) {
+        this.boardEvaluator = boardEvaluator;
         this.searchDepth = searchDepth;
+        this.moveLists = MoveList.createPlyLists(searchDepth + 1);
     }
     public Move execute(Board board) {
-        final long startTime = System.currentTimeMillis();
-        Move bestMove = null;
+        final long startTime = System.nanoTime();
+        final SearchBoard searchBoard = new SearchBoard(board);
+        nodeCount = 0;
+        int bestMove = PackedMove.NULL_MOVE;
         int highestSeenValue = Integer.MIN_VALUE;
         int lowestSeenValue = Integer.MAX_VALUE;
         int currentValue;
-        for (Move move: board.currentPlayer().getLegalMoves()) {
-            MoveTransition moveTransition = board.currentPlayer().makeMove(move);
-            if (moveTransition.getMoveStatus().isDone()) {
-                currentValue = board.currentPlayer().getAlliance() == Alliance.WHITE ?
-                        min(moveTransition.getBoard(), searchDepth - 1) :
-                        max(moveTransition.getBoard(), searchDepth - 1);
-                if (board.currentPlayer().getAlliance() == Alliance.WHITE &&
-                        currentValue > highestSeenValue) {
-                    highestSeenValue = currentValue;
-                    bestMove = move;
-                }
-                else if (board.currentPlayer().getAlliance() == Alliance.BLACK &&
-                        currentValue < lowestSeenValue){
-                    lowestSeenValue = currentValue;
-                    bestMove = move;
-                }
+        final MoveList rootMoves = moveLists[searchDepth];
+        searchBoard.generateLegalMoves(rootMoves);
+        for (int i = 0; i < rootMoves.size(); i++) {
+            final int move = rootMoves.get(i);
+            searchBoard.makeMove(move);
+            currentValue = board.currentPlayer().getAlliance() == Alliance.WHITE ?
+                    min(searchBoard, searchDepth - 1) :
+                    max(searchBoard, searchDepth - 1);
+            searchBoard.unmakeMove();
+            if (board.currentPlayer().getAlliance() == Alliance.WHITE &&
+                    currentValue > highestSeenValue) {
+                highestSeenValue = currentValue;
+                bestMove = move;
+            }
+            else if (board.currentPlayer().getAlliance() == Alliance.BLACK &&
+                    currentValue < lowestSeenValue){
+                lowestSeenValue = currentValue;
+                bestMove = move;
             }
         }
-        final long executionTime = System.currentTimeMillis() - startTime;
-        return bestMove;
+        final long executionTime = System.nanoTime() - startTime;
+        searchStats = new SearchStats.Builder()
+                .setDepth(searchDepth)
+                .setBestMove(PackedMove.toString(bestMove))
+                .setBestValue(board.currentPlayer().getAlliance() == Alliance.WHITE ?
+                        highestSeenValue : lowestSeenValue)
+                .setNodes(nodeCount, 0, 0)
+                .setElapsedNanos(executionTime)
+                .addIteration(nodeCount, executionTime)
+                .build();
+        if (searchListener != null) {
+            searchListener.iterationCompleted(searchStats);
+        }
+        return bestMove == PackedMove.NULL_MOVE ? null : PackedMove.toMove(board, bestMove);
     }
-    public int min(Board board, int depth) {
-        if (depth == 0 || isEndGameScenario(board)) {
+    public int min(SearchBoard board, int depth) {
+        nodeCount++;
+        if (depth == 0) {
             return boardEvaluator.evaluate(board, depth);
         }
+        final MoveList moves = moveLists[depth];
+        board.generateLegalMoves(moves);
+        if (moves.isEmpty()) {
+            return terminalValue(board);
+        }
         int lowestSeenValue = Integer.MAX_VALUE;
-        for (Move move: board.currentPlayer().getLegalMoves()) {
-            MoveTransition moveTransition = board.currentPlayer().makeMove(move);
-            if (moveTransition.getMoveStatus().isDone()) {
-                int currentValue = max(moveTransition.getBoard(), depth - 1);
-                if (currentValue < lowestSeenValue) {
-                    lowestSeenValue = currentValue;
-                }
+        for (int i = 0; i < moves.size(); i++) {
+            board.makeMove(moves.get(i));
+            int currentValue = max(board, depth - 1);
+            board.unmakeMove();
+            if (currentValue < lowestSeenValue) {
+                lowestSeenValue = currentValue;
             }
         }
         return lowestSeenValue;
     }
-    public int max(Board board, int depth) {
-        if (depth == 0 || isEndGameScenario(board)) {
+    public int max(SearchBoard board, int depth) {
+        nodeCount++;
+        if (depth == 0) {
             return boardEvaluator.evaluate(board, depth);
         }
+        final MoveList moves = moveLists[depth];
+        board.generateLegalMoves(moves);
+        if (moves.isEmpty()) {
+            return terminalValue(board);
+        }
         int highestSeenValue = Integer.MIN_VALUE;
-        for (Move move: board.currentPlayer().getLegalMoves()) {
-            MoveTransition moveTransition = board.currentPlayer().makeMove(move);
-            if (moveTransition.getMoveStatus().isDone()) {
-                int currentValue = min(moveTransition.getBoard(), depth - 1);
-                if (currentValue > highestSeenValue) {
-                    highestSeenValue = currentValue;
-                }
+        for (int i = 0; i < moves.size(); i++) {
+            board.makeMove(moves.get(i));
+            int currentValue = min(board, depth - 1);
+            board.unmakeMove();
+            if (currentValue > highestSeenValue) {
+                highestSeenValue = currentValue;
             }
         }
         return highestSeenValue;
 
     }
-    private static boolean isEndGameScenario(final Board board) {
-        return board.currentPlayer().inCheckmate() || board.currentPlayer().inStalemate();
+    private static int terminalValue(SearchBoard board) {
+        if (!board.inCheck()) {
+            return 0;
+        }
+        int mateValue = AlphaBeta.MATE_VALUE - board.getPly();
+        return board.getSide() == SearchBoard.WHITE ? -mateValue : mateValue;
+    }
+    public long getNodeCount() {
+        return nodeCount;
+    }
+    public SearchStats getSearchStats() {
+        return searchStats;
+    }
+    public void setSearchListener(SearchListener searchListener) {
+        this.searchListener = searchListener;
     }
     public String toString() {
         return "MiniMax";
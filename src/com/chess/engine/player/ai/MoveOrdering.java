@@ -0,0 +1,117 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.BitBoards;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.MoveList;
+import com.chess.engine.board.PackedMove;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.pieces.Piece.PieceType;
+
+public final class MoveOrdering {
+    public static final int HASH_MOVE_SCORE = 100000000;
+    public static final int GOOD_CAPTURE_SCORE = 20000000;
+    public static final int KILLER_SCORE = 10000000;
+    public static final int BAD_CAPTURE_SCORE = 5000000;
+    private static final int MAX_HISTORY = 1 << 20;
+    private static final int NUM_KILLERS = 2;
+    private static final int[] PIECE_VALUES = createPieceValues();
+
+    private final int[][] killers;
+    private final int[][][] history;
+
+    public MoveOrdering() {
+        killers = new int[SearchBoard.MAX_PLY][NUM_KILLERS];
+        history = new int[BitBoards.ALLIANCES.length][Board.NUM_SQUARES][Board.NUM_SQUARES];
+    }
+
+    private static int[] createPieceValues() {
+        int[] values = new int[BitBoards.NUM_PIECE_TYPES];
+        for (PieceType pieceType: BitBoards.PIECE_TYPES) {
+            values[pieceType.ordinal()] = pieceType.getPieceValue();
+        }
+        return values;
+    }
+
+    public void newSearch() {
+        for (int ply = 0; ply < killers.length; ply++) {
+            killers[ply][0] = PackedMove.NULL_MOVE;
+            killers[ply][1] = PackedMove.NULL_MOVE;
+        }
+        for (int[][] sideHistory: history) {
+            for (int[] fromHistory: sideHistory) {
+                for (int to = 0; to < fromHistory.length; to++) {
+                    fromHistory[to] /= 2;
+                }
+            }
+        }
+    }
+
+    public void scoreMoves(SearchBoard board, MoveList moves, int hashMove, int ply) {
+        int side = board.getSide();
+        for (int i = 0; i < moves.size(); i++) {
+            moves.setScore(i, scoreMove(side, moves.get(i), hashMove, ply));
+        }
+    }
+
+    public int scoreMove(int side, int move, int hashMove, int ply) {
+        if (move == hashMove) {
+            return HASH_MOVE_SCORE;
+        }
+        if (PackedMove.isCapture(move) || PackedMove.isPromotion(move)) {
+            int exchange = mvvLva(move);
+            return (exchange >= 0 ? GOOD_CAPTURE_SCORE : BAD_CAPTURE_SCORE) + exchange;
+        }
+        if (move == killers[ply][0]) {
+            return KILLER_SCORE + 1;
+        }
+        if (move == killers[ply][1]) {
+            return KILLER_SCORE;
+        }
+        return history[side][PackedMove.from(move)][PackedMove.to(move)];
+    }
+
+    public static int mvvLva(int move) {
+        int score = 0;
+        if (PackedMove.isCapture(move)) {
+            int movedType = PackedMove.movedType(move);
+            score = PIECE_VALUES[PackedMove.capturedType(move)] -
+                    (movedType == PieceType.KING.ordinal() ? 0 : PIECE_VALUES[movedType]);
+        }
+        if (PackedMove.isPromotion(move)) {
+            score += PIECE_VALUES[PackedMove.promotionType(move)];
+        }
+        return score;
+    }
+
+    public void updateCutoff(int side, int move, int ply, int depth) {
+        if (PackedMove.isCapture(move) || PackedMove.isPromotion(move)) {
+            return;
+        }
+        if (killers[ply][0] != move) {
+            killers[ply][1] = killers[ply][0];
+            killers[ply][0] = move;
+        }
+        int[] fromHistory = history[side][PackedMove.from(move)];
+        int to = PackedMove.to(move);
+        fromHistory[to] += depth * depth;
+        if (fromHistory[to] >= MAX_HISTORY) {
+            ageHistory(side);
+        }
+    }
+
+    public boolean isKiller(int move, int ply) {
+        return move == killers[ply][0] || move == killers[ply][1];
+    }
+
+    public int getHistory(int side, int move) {
+        return history[side][PackedMove.from(move)][PackedMove.to(move)];
+    }
+
+    private void ageHistory(int side) {
+        for (int[] fromHistory: history[side]) {
+            for (int to = 0; to < fromHistory.length; to++) {
+                fromHistory[to] /= 2;
+            }
+        }
+    }
+}
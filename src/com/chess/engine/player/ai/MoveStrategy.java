@@ -5,4 +5,6 @@ import com.chess.engine.board.Move;
 
 public interface MoveStrategy {
     public Move execute(Board board);
+    public SearchStats getSearchStats();
+    public void setSearchListener(SearchListener searchListener);
 }
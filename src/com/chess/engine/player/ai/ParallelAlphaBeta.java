@@ -0,0 +1,199 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.MoveList;
+import com.chess.engine.board.PackedMove;
+import com.chess.engine.board.SearchBoard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.chess.engine.player.ai.AlphaBeta.INFINITY;
+
+/*
+ * Root moves are split across a ForkJoinPool, each task searching its own SearchBoard built from the immutable
+ * root Board. Tasks open their window one below the shared alpha so ties stay exact. Workers run without null
+ * move pruning, late move reductions and delta pruning, whose results depend on the window, so the value and move
+ * match a sequential AlphaBeta with the same flags. Each execute() gets its own pool, shut down afterwards; every
+ * pool thread owns one worker AlphaBeta whose move lists and killer/history ordering carry over between tasks.
+ */
+public class ParallelAlphaBeta implements MoveStrategy {
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+    private final BoardEvaluator boardEvaluator;
+    private final int searchDepth;
+    private final AtomicLong nodeCount;
+    private int bestValue;
+    private SearchListener searchListener;
+    private SearchStats searchStats;
+    private long quiescenceNodeCount;
+    private long expandedNodeCount;
+    private long betaCutoffs;
+    private long firstMoveCutoffs;
+    public ParallelAlphaBeta(int searchDepth) {
+        this(searchDepth, new StandardBoardEvaluator());
+    }
+    public ParallelAlphaBeta(int searchDepth, BoardEvaluator boardEvaluator) {
+        this.boardEvaluator = boardEvaluator;
+        this.searchDepth = searchDepth;
+        this.nodeCount = new AtomicLong();
+    }
+    public Move execute(Board board) {
+        final MoveList rootMoves = new MoveList();
+        new SearchBoard(board).generateLegalMoves(rootMoves);
+        final long startTime = System.nanoTime();
+        final SearchStats.Builder statsBuilder = new SearchStats.Builder();
+        nodeCount.set(0);
+        quiescenceNodeCount = 0;
+        expandedNodeCount = 0;
+        betaCutoffs = 0;
+        firstMoveCutoffs = 0;
+        if (rootMoves.isEmpty()) {
+            searchStats = statsBuilder.build();
+            return null;
+        }
+        int bestMove = rootMoves.get(0);
+        final ForkJoinPool pool = new ForkJoinPool(PARALLELISM, new WorkerThreadFactory(), null, false);
+        try {
+            for (int depth = 1; depth <= searchDepth; depth++) {
+                final long iterationStart = System.nanoTime();
+                final long iterationNodes = nodeCount.get();
+                bestMove = pool.invoke(new RootSearch(board, rootMoves, depth));
+                rootMoves.moveToFront(bestMove);
+                statsBuilder.addIteration(nodeCount.get() - iterationNodes, System.nanoTime() - iterationStart);
+                searchStats = createSearchStats(statsBuilder, depth, bestMove, startTime);
+                if (searchListener != null) {
+                    searchListener.iterationCompleted(searchStats);
+                }
+            }
+        }
+        finally {
+            pool.shutdown();
+        }
+        return PackedMove.toMove(board, bestMove);
+    }
+    private synchronized SearchStats createSearchStats(SearchStats.Builder statsBuilder, int depth, int bestMove,
+                                                       long startTime) {
+        return statsBuilder
+                .setDepth(depth)
+                .setBestMove(PackedMove.toString(bestMove))
+                .setBestValue(bestValue)
+                .setNodes(nodeCount.get(), quiescenceNodeCount, expandedNodeCount)
+                .setCutoffs(betaCutoffs, firstMoveCutoffs)
+                .setElapsedNanos(System.nanoTime() - startTime)
+                .build();
+    }
+    private synchronized void addWorkerStats(SearchStats workerStats) {
+        nodeCount.addAndGet(workerStats.getNodes());
+        quiescenceNodeCount += workerStats.getQuiescenceNodes();
+        expandedNodeCount += workerStats.getExpandedNodes();
+        betaCutoffs += workerStats.getBetaCutoffs();
+        firstMoveCutoffs += workerStats.getFirstMoveCutoffs();
+    }
+    private AlphaBeta createWorker() {
+        return new AlphaBeta.Builder()
+                .setBoardEvaluator(boardEvaluator)
+                .setNullMovePruning(false)
+                .setLateMoveReductions(false)
+                .setDeltaPruning(false)
+                .build();
+    }
+    public long getNodeCount() {
+        return nodeCount.get();
+    }
+    public int getBestValue() {
+        return bestValue;
+    }
+    public SearchStats getSearchStats() {
+        return searchStats;
+    }
+    public void setSearchListener(SearchListener searchListener) {
+        this.searchListener = searchListener;
+    }
+    public static int getParallelism() {
+        return PARALLELISM;
+    }
+    public String toString() {
+        return "ParallelAlphaBeta";
+    }
+
+    private final class RootSearch extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+        private final Board board;
+        private final MoveList rootMoves;
+        private final int depth;
+        private final AtomicInteger sharedAlpha;
+        private final int[] values;
+        private final boolean[] exact;
+        RootSearch(Board board, MoveList rootMoves, int depth) {
+            this.board = board;
+            this.rootMoves = rootMoves;
+            this.depth = depth;
+            this.sharedAlpha = new AtomicInteger(-INFINITY);
+            this.values = new int[rootMoves.size()];
+            this.exact = new boolean[rootMoves.size()];
+        }
+        protected Integer compute() {
+            new RootMoveSearch(this, 0).compute();
+            final List<RootMoveSearch> tasks = new ArrayList<>();
+            for (int i = 1; i < rootMoves.size(); i++) {
+                tasks.add(new RootMoveSearch(this, i));
+            }
+            invokeAll(tasks);
+            int best = 0;
+            for (int i = 1; i < values.length; i++) {
+                if (exact[i] && values[i] > values[best]) {
+                    best = i;
+                }
+            }
+            bestValue = board.currentPlayer().getAlliance() == Alliance.WHITE ? values[best] : -values[best];
+            return rootMoves.get(best);
+        }
+    }
+
+    private final class RootMoveSearch extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final RootSearch root;
+        private final int index;
+        RootMoveSearch(RootSearch root, int index) {
+            this.root = root;
+            this.index = index;
+        }
+        protected void compute() {
+            final SearchBoard searchBoard = new SearchBoard(root.board);
+            final AlphaBeta worker = ((WorkerThread) Thread.currentThread()).worker;
+            final int alpha = root.sharedAlpha.get();
+            final int beta = alpha == -INFINITY ? INFINITY : -(alpha - 1);
+            searchBoard.makeMove(root.rootMoves.get(index));
+            final int value = -worker.search(searchBoard, root.depth - 1, -INFINITY, beta);
+            addWorkerStats(worker.getSearchStats());
+            root.values[index] = value;
+            root.exact[index] = value >= alpha;
+            int current = root.sharedAlpha.get();
+            while (value > current && !root.sharedAlpha.compareAndSet(current, value)) {
+                current = root.sharedAlpha.get();
+            }
+        }
+    }
+
+    private final class WorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            return new WorkerThread(pool, createWorker());
+        }
+    }
+
+    private static final class WorkerThread extends ForkJoinWorkerThread {
+        private final AlphaBeta worker;
+        WorkerThread(ForkJoinPool pool, AlphaBeta worker) {
+            super(pool);
+            this.worker = worker;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.chess.engine.player.ai;
+
+/*
+ * Pawn-structure scores keyed by the pawn-only Zobrist key.
+ */
+public final class PawnHashTable {
+    public static final long NO_ENTRY = ScoreTable.NO_ENTRY;
+
+    private final ScoreTable table;
+
+    public PawnHashTable(int sizeInMb) {
+        table = new ScoreTable(sizeInMb);
+    }
+
+    public void clear() {
+        table.clear();
+    }
+
+    public int capacity() {
+        return table.capacity();
+    }
+
+    public long probe(long key) {
+        return table.probe(key);
+    }
+
+    public void store(long key, int score) {
+        table.store(key, score);
+    }
+
+    public static int getScore(long entry) {
+        return ScoreTable.getScore(entry);
+    }
+}
@@ -0,0 +1,118 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.AttackTables;
+import com.chess.engine.board.BitBoards;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.TaperedTables;
+
+/*
+ * Pawn-structure terms as packed middlegame/endgame scores (see TaperedTables), white minus black.
+ * Everything in evaluate() depends on the pawns alone, so it can be cached under the pawn key.
+ */
+public final class PawnStructure {
+    private static final int WHITE = 0;
+    private static final int BLACK = 1;
+    private static final int DOUBLED = TaperedTables.pack(-10, -20);
+    private static final int ISOLATED = TaperedTables.pack(-5, -15);
+    private static final int BACKWARD = TaperedTables.pack(-8, -10);
+    private static final int SHIELD = TaperedTables.pack(12, 0);
+    private static final int[] PASSED = {
+            TaperedTables.pack(0, 0), TaperedTables.pack(5, 10), TaperedTables.pack(10, 20),
+            TaperedTables.pack(15, 35), TaperedTables.pack(25, 60), TaperedTables.pack(40, 100),
+            TaperedTables.pack(60, 150), TaperedTables.pack(0, 0)};
+
+    private static final long[] ADJACENT_FILES = createAdjacentFiles();
+    private static final long[][] FORWARD_RANKS = createForwardRanks();
+    private static final long[][] PASSED_MASKS = new long[2][Board.NUM_SQUARES];
+    private static final long[][] SUPPORT_MASKS = new long[2][Board.NUM_SQUARES];
+    private static final long[][] SHIELD_MASKS = new long[2][Board.NUM_SQUARES];
+
+    static {
+        for (int side = WHITE; side <= BLACK; side++) {
+            for (int i = 0; i < Board.NUM_SQUARES; i++) {
+                int file = i % Board.NUM_SQUARES_PER_ROW;
+                int row = i / Board.NUM_SQUARES_PER_ROW;
+                long files = BitBoards.fileMask(file) | ADJACENT_FILES[file];
+                PASSED_MASKS[side][i] = FORWARD_RANKS[side][row] & files;
+                SUPPORT_MASKS[side][i] = ~FORWARD_RANKS[side][row] & ADJACENT_FILES[file];
+                long nearRows = 0;
+                for (int step = 1; step <= 2; step++) {
+                    int shieldRow = side == WHITE ? row - step : row + step;
+                    if (shieldRow >= 0 && shieldRow < Board.NUM_SQUARES_PER_ROW) {
+                        nearRows |= BitBoards.rowMask(shieldRow);
+                    }
+                }
+                SHIELD_MASKS[side][i] = nearRows & files;
+            }
+        }
+    }
+
+    private PawnStructure() {
+        throw new RuntimeException("not instantiable");
+    }
+
+    public static int evaluate(long whitePawns, long blackPawns) {
+        return evaluateSide(WHITE, whitePawns, blackPawns) - evaluateSide(BLACK, blackPawns, whitePawns);
+    }
+
+    public static int kingShield(int side, int kingSquare, long ownPawns) {
+        return Math.min(BitBoards.count(ownPawns & SHIELD_MASKS[side][kingSquare]), 3) * SHIELD;
+    }
+
+    private static int evaluateSide(int side, long pawns, long enemyPawns) {
+        int score = 0;
+        for (int file = 0; file < Board.NUM_SQUARES_PER_ROW; file++) {
+            int count = BitBoards.count(pawns & BitBoards.fileMask(file));
+            if (count > 1) {
+                score += (count - 1) * DOUBLED;
+            }
+        }
+        int forward = side == WHITE ? -Board.NUM_SQUARES_PER_ROW : Board.NUM_SQUARES_PER_ROW;
+        long remaining = pawns;
+        while (remaining != 0) {
+            int square = BitBoards.firstSquare(remaining);
+            int file = square % Board.NUM_SQUARES_PER_ROW;
+            if ((pawns & ADJACENT_FILES[file]) == 0) {
+                score += ISOLATED;
+            }
+            else if ((pawns & SUPPORT_MASKS[side][square]) == 0 &&
+                    (AttackTables.pawnAttacks(side, square + forward) & enemyPawns) != 0) {
+                score += BACKWARD;
+            }
+            if ((enemyPawns & PASSED_MASKS[side][square]) == 0) {
+                int row = square / Board.NUM_SQUARES_PER_ROW;
+                score += PASSED[side == WHITE ? Board.NUM_SQUARES_PER_ROW - 1 - row : row];
+            }
+            remaining = BitBoards.clearFirstSquare(remaining);
+        }
+        return score;
+    }
+
+    private static long[] createAdjacentFiles() {
+        long[] files = new long[Board.NUM_SQUARES_PER_ROW];
+        for (int file = 0; file < Board.NUM_SQUARES_PER_ROW; file++) {
+            if (file > 0) {
+                files[file] |= BitBoards.fileMask(file - 1);
+            }
+            if (file < Board.NUM_SQUARES_PER_ROW - 1) {
+                files[file] |= BitBoards.fileMask(file + 1);
+            }
+        }
+        return files;
+    }
+
+    private static long[][] createForwardRanks() {
+        long[][] ranks = new long[2][Board.NUM_SQUARES_PER_ROW];
+        for (int row = 0; row < Board.NUM_SQUARES_PER_ROW; row++) {
+            for (int other = 0; other < Board.NUM_SQUARES_PER_ROW; other++) {
+                if (other < row) {
+                    ranks[WHITE][row] |= BitBoards.rowMask(other);
+                }
+                else if (other > row) {
+                    ranks[BLACK][row] |= BitBoards.rowMask(other);
+                }
+            }
+        }
+        return ranks;
+    }
+}
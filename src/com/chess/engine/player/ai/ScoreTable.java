@@ -0,0 +1,54 @@
+package com.chess.engine.player.ai;
+
+/*
+ * A fixed-size table of int scores keyed by a 64-bit hash, one slot per index, overwritten on collision.
+ * Entries are stored as in TranspositionTable, with the key XORed with the data, so concurrent writers
+ * can only cause misses. Data layout: valid (1) << 32 | score (32).
+ */
+final class ScoreTable {
+    static final long NO_ENTRY = 0L;
+
+    private static final int BYTES_PER_ENTRY = 16;
+    private static final long VALID = 1L << 32;
+    private static final long SCORE_MASK = 0xFFFFFFFFL;
+
+    private final long[] keys;
+    private final long[] entries;
+    private final int indexMask;
+
+    ScoreTable(int sizeInMb) {
+        long maxEntries = Math.max(1, (long) sizeInMb * 1024 * 1024 / BYTES_PER_ENTRY);
+        int numEntries = Integer.highestOneBit((int) Math.min(maxEntries, 1 << 26));
+        keys = new long[numEntries];
+        entries = new long[numEntries];
+        indexMask = numEntries - 1;
+    }
+
+    void clear() {
+        for (int i = 0; i < entries.length; i++) {
+            keys[i] = 0;
+            entries[i] = 0;
+        }
+    }
+
+    int capacity() {
+        return entries.length;
+    }
+
+    long probe(long key) {
+        int index = (int) key & indexMask;
+        long entry = entries[index];
+        return entry != NO_ENTRY && (keys[index] ^ entry) == key ? entry : NO_ENTRY;
+    }
+
+    void store(long key, int score) {
+        int index = (int) key & indexMask;
+        long entry = VALID | (score & SCORE_MASK);
+        entries[index] = entry;
+        keys[index] = key ^ entry;
+    }
+
+    static int getScore(long entry) {
+        return (int) entry;
+    }
+}
@@ -0,0 +1,5 @@
+package com.chess.engine.player.ai;
+
+public interface SearchListener {
+    public void iterationCompleted(SearchStats searchStats);
+}
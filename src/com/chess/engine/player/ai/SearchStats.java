@@ -0,0 +1,167 @@
+package com.chess.engine.player.ai;
+
+import java.util.Arrays;
+
+public final class SearchStats {
+    private final int depth;
+    private final String bestMove;
+    private final int bestValue;
+    private final long nodes;
+    private final long quiescenceNodes;
+    private final long expandedNodes;
+    private final long betaCutoffs;
+    private final long firstMoveCutoffs;
+    private final long tableProbes;
+    private final long tableHits;
+    private final long elapsedNanos;
+    private final long[] iterationNodes;
+    private final long[] iterationNanos;
+
+    private SearchStats(Builder builder) {
+        this.depth = builder.depth;
+        this.bestMove = builder.bestMove;
+        this.bestValue = builder.bestValue;
+        this.nodes = builder.nodes;
+        this.quiescenceNodes = builder.quiescenceNodes;
+        this.expandedNodes = builder.expandedNodes;
+        this.betaCutoffs = builder.betaCutoffs;
+        this.firstMoveCutoffs = builder.firstMoveCutoffs;
+        this.tableProbes = builder.tableProbes;
+        this.tableHits = builder.tableHits;
+        this.elapsedNanos = builder.elapsedNanos;
+        this.iterationNodes = Arrays.copyOf(builder.iterationNodes, builder.iterations);
+        this.iterationNanos = Arrays.copyOf(builder.iterationNanos, builder.iterations);
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+    public String getBestMove() {
+        return bestMove;
+    }
+    public int getBestValue() {
+        return bestValue;
+    }
+    public long getNodes() {
+        return nodes;
+    }
+    public long getQuiescenceNodes() {
+        return quiescenceNodes;
+    }
+    public long getExpandedNodes() {
+        return expandedNodes;
+    }
+    public long getBetaCutoffs() {
+        return betaCutoffs;
+    }
+    public long getFirstMoveCutoffs() {
+        return firstMoveCutoffs;
+    }
+    public long getTableProbes() {
+        return tableProbes;
+    }
+    public long getTableHits() {
+        return tableHits;
+    }
+    public long getElapsedMillis() {
+        return elapsedNanos / 1000000;
+    }
+    public long getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nodes * 1000000000L / elapsedNanos;
+    }
+    public double getEffectiveBranchingFactor() {
+        int iterations = iterationNodes.length;
+        if (iterations >= 2 && iterationNodes[iterations - 2] > 0) {
+            return (double) iterationNodes[iterations - 1] / iterationNodes[iterations - 2];
+        }
+        return depth == 0 ? 0 : Math.pow(nodes, 1.0 / depth);
+    }
+    public double getBetaCutoffRate() {
+        return expandedNodes == 0 ? 0 : (double) betaCutoffs / expandedNodes;
+    }
+    public double getFirstMoveCutoffRate() {
+        return betaCutoffs == 0 ? 0 : (double) firstMoveCutoffs / betaCutoffs;
+    }
+    public double getTableHitRate() {
+        return tableProbes == 0 ? 0 : (double) tableHits / tableProbes;
+    }
+    public int getIterations() {
+        return iterationNanos.length;
+    }
+    public long getIterationNodes(int iteration) {
+        return iterationNodes[iteration];
+    }
+    public long getIterationMillis(int iteration) {
+        return iterationNanos[iteration] / 1000000;
+    }
+    public String toString() {
+        return String.format("depth %d score %d nodes %d qnodes %d nps %d ebf %.2f cutoffs %.1f%% first %.1f%% " +
+                        "tthits %.1f%% time %d ms pv %s", depth, bestValue, nodes, quiescenceNodes,
+                getNodesPerSecond(), getEffectiveBranchingFactor(), getBetaCutoffRate() * 100,
+                getFirstMoveCutoffRate() * 100, getTableHitRate() * 100, getElapsedMillis(), bestMove);
+    }
+
+    public static class Builder {
+        int depth;
+        String bestMove;
+        int bestValue;
+        long nodes;
+        long quiescenceNodes;
+        long expandedNodes;
+        long betaCutoffs;
+        long firstMoveCutoffs;
+        long tableProbes;
+        long tableHits;
+        long elapsedNanos;
+        long[] iterationNodes;
+        long[] iterationNanos;
+        int iterations;
+        public Builder() {
+            iterationNodes = new long[AlphaBeta.MAX_DEPTH];
+            iterationNanos = new long[AlphaBeta.MAX_DEPTH];
+        }
+        public Builder setDepth(int depth) {
+            this.depth = depth;
+            return this;
+        }
+        public Builder setBestMove(String bestMove) {
+            this.bestMove = bestMove;
+            return this;
+        }
+        public Builder setBestValue(int bestValue) {
+            this.bestValue = bestValue;
+            return this;
+        }
+        public Builder setNodes(long nodes, long quiescenceNodes, long expandedNodes) {
+            this.nodes = nodes;
+            this.quiescenceNodes = quiescenceNodes;
+            this.expandedNodes = expandedNodes;
+            return this;
+        }
+        public Builder setCutoffs(long betaCutoffs, long firstMoveCutoffs) {
+            this.betaCutoffs = betaCutoffs;
+            this.firstMoveCutoffs = firstMoveCutoffs;
+            return this;
+        }
+        public Builder setTableProbes(long tableProbes, long tableHits) {
+            this.tableProbes = tableProbes;
+            this.tableHits = tableHits;
+            return this;
+        }
+        public Builder setElapsedNanos(long elapsedNanos) {
+            this.elapsedNanos = elapsedNanos;
+            return this;
+        }
+        public Builder addIteration(long nodes, long nanos) {
+            if (iterations < iterationNodes.length) {
+                iterationNodes[iterations] = nodes;
+                iterationNanos[iterations] = nanos;
+                iterations++;
+            }
+            return this;
+        }
+        public SearchStats build() {
+            return new SearchStats(this);
+        }
+    }
+}
@@ -1,22 +1,52 @@
 package com.chess.engine.player.ai;
 
+import com.chess.engine.Alliance;
+import com.chess.engine.board.AttackTables;
+import com.chess.engine.board.BitBoards;
 import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
 import com.chess.engine.pieces.Piece;
 import com.chess.engine.player.Player;
 
+/*
+ * Mobility is the number of squares each piece attacks that are not held by its own side, and king safety
+ * counts those attacks that land next to the enemy king. Both come from attack bitboards, so evaluation
+ * never generates moves; only a side in check is tested for a legal reply, and that test is bitboard-based too.
+ */
 public final class StandardBoardEvaluator implements BoardEvaluator {
     private static final int CHECK_BONUS = 50;
     private static final int CHECKMATE_BONUS = 10000;
     private static final int CASTLE_BONUS = 60;
+    private static final int KING_ZONE_ATTACK_BONUS = 5;
+    private static final int PAWN = Piece.PieceType.PAWN.ordinal();
+    private static final int KNIGHT = Piece.PieceType.KNIGHT.ordinal();
+    private static final int BISHOP = Piece.PieceType.BISHOP.ordinal();
+    private static final int ROOK = Piece.PieceType.ROOK.ordinal();
+    private static final int KING = Piece.PieceType.KING.ordinal();
+
     public int evaluate(Board board, int depth) {
         return scorePlayer(board, board.whitePlayer(), depth) -
                 scorePlayer(board, board.blackPlayer(), depth);
     }
 
+    public int evaluate(SearchBoard board, int depth) {
+        return scoreSide(board, SearchBoard.WHITE, depth) - scoreSide(board, SearchBoard.BLACK, depth);
+    }
+
     private static int scorePlayer(Board board, Player player, int depth) {
-        return pieceValue(player) + mobility(player) + check(player) +
+        return pieceValue(board, player) + attacks(board, player.getAlliance()) + check(player) +
                 checkMate(player, depth) + castled(player);
     }
+    private static int scoreSide(SearchBoard board, int side, int depth) {
+        int score = pieceValue(board, side) + attacks(board, side);
+        if (board.isKingAttacked(side ^ 1)) {
+            score += CHECK_BONUS;
+            if (!board.hasLegalMoves(side ^ 1)) {
+                score += CHECKMATE_BONUS * (depth + 1);
+            }
+        }
+        return score;
+    }
     private static int castled(Player player) {
         return player.castled() ? CASTLE_BONUS : 0;
     }
@@ -28,15 +58,76 @@ public final class StandardBoardEvaluator implements BoardEvaluator {
         return player.getOpponent().inCheckmate() ? CHECKMATE_BONUS * (depth + 1) : 0;
     }
 
-    private static int mobility(Player player) {
-        return player.getLegalMoves().size();
+    private static int attacks(Board board, Alliance alliance) {
+        int side = alliance.ordinal();
+        long kingZone = kingZone(board.getPieceBitBoard(BitBoards.pieceIndex(side ^ 1, KING)));
+        int score = 0;
+        for (int pieceType = PAWN; pieceType <= KING; pieceType++) {
+            score += attacks(pieceType, side, board.getPieceBitBoard(BitBoards.pieceIndex(side, pieceType)),
+                    board.getOccupancy(alliance), board.getOccupancy(), kingZone);
+        }
+        return score;
+    }
+
+    private static int attacks(SearchBoard board, int side) {
+        long kingZone = kingZone(board.getPieceBitBoard(side ^ 1, KING));
+        int score = 0;
+        for (int pieceType = PAWN; pieceType <= KING; pieceType++) {
+            score += attacks(pieceType, side, board.getPieceBitBoard(side, pieceType),
+                    board.getOccupancy(side), board.getOccupancy(), kingZone);
+        }
+        return score;
+    }
+
+    private static int attacks(int pieceType, int side, long pieces, long own, long occupancy, long kingZone) {
+        int score = 0;
+        while (pieces != 0) {
+            long attacks = pieceAttacks(pieceType, side, BitBoards.firstSquare(pieces), occupancy);
+            score += BitBoards.count(attacks & ~own) +
+                    KING_ZONE_ATTACK_BONUS * BitBoards.count(attacks & kingZone);
+            pieces = BitBoards.clearFirstSquare(pieces);
+        }
+        return score;
+    }
+
+    private static long pieceAttacks(int pieceType, int side, int from, long occupancy) {
+        if (pieceType == PAWN) {
+            return AttackTables.pawnAttacks(side, from);
+        }
+        if (pieceType == KNIGHT) {
+            return AttackTables.knightAttacks(from);
+        }
+        if (pieceType == BISHOP) {
+            return AttackTables.bishopAttacks(from, occupancy);
+        }
+        if (pieceType == ROOK) {
+            return AttackTables.rookAttacks(from, occupancy);
+        }
+        if (pieceType == KING) {
+            return AttackTables.kingAttacks(from);
+        }
+        return AttackTables.queenAttacks(from, occupancy);
+    }
+
+    private static long kingZone(long king) {
+        return king == 0 ? 0 : king | AttackTables.kingAttacks(BitBoards.firstSquare(king));
+    }
+
+    private static int pieceValue(Board board, Player player) {
+        int pieceValueScore = 0;
+        for (Piece.PieceType pieceType: BitBoards.PIECE_TYPES) {
+            pieceValueScore += BitBoards.count(board.getPieceBitBoard(player.getAlliance(), pieceType)) *
+                    pieceType.getPieceValue();
+        }
+        return pieceValueScore;
     }
 
-    private static int pieceValue(Player player) {
+    private static int pieceValue(SearchBoard board, int side) {
         int pieceValueScore = 0;
-         for (Piece piece: player.getActivePieces()) {
-             pieceValueScore += piece.getPieceValue();
-         }
-         return pieceValueScore;
+        for (Piece.PieceType pieceType: BitBoards.PIECE_TYPES) {
+            pieceValueScore += BitBoards.count(board.getPieceBitBoard(side, pieceType.ordinal())) *
+                    pieceType.getPieceValue();
+        }
+        return pieceValueScore;
     }
 }
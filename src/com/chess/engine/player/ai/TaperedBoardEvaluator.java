@@ -0,0 +1,54 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.BitBoards;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.board.TaperedTables;
+import com.chess.engine.pieces.Piece.PieceType;
+
+public final class TaperedBoardEvaluator implements BoardEvaluator {
+    private static final int DEFAULT_PAWN_TABLE_MB = 1;
+    private static final int PAWN = PieceType.PAWN.ordinal();
+    private static final int KING = PieceType.KING.ordinal();
+
+    private final PawnHashTable pawnTable;
+
+    public TaperedBoardEvaluator() {
+        this(new PawnHashTable(DEFAULT_PAWN_TABLE_MB));
+    }
+
+    public TaperedBoardEvaluator(PawnHashTable pawnTable) {
+        this.pawnTable = pawnTable;
+    }
+
+    public int evaluate(Board board, int depth) {
+        long whitePawns = board.getPieceBitBoard(Alliance.WHITE, PieceType.PAWN);
+        long blackPawns = board.getPieceBitBoard(Alliance.BLACK, PieceType.PAWN);
+        int score = board.getTaperedScore() + pawnStructure(board.getPawnKey(), whitePawns, blackPawns) +
+                PawnStructure.kingShield(SearchBoard.WHITE, board.getKingPosition(Alliance.WHITE), whitePawns) -
+                PawnStructure.kingShield(SearchBoard.BLACK, board.getKingPosition(Alliance.BLACK), blackPawns);
+        return TaperedTables.interpolate(score, board.getPhase());
+    }
+
+    public int evaluate(SearchBoard board, int depth) {
+        long whitePawns = board.getPieceBitBoard(SearchBoard.WHITE, PAWN);
+        long blackPawns = board.getPieceBitBoard(SearchBoard.BLACK, PAWN);
+        int whiteKing = BitBoards.firstSquare(board.getPieceBitBoard(SearchBoard.WHITE, KING));
+        int blackKing = BitBoards.firstSquare(board.getPieceBitBoard(SearchBoard.BLACK, KING));
+        int score = board.getTaperedScore() + pawnStructure(board.getPawnKey(), whitePawns, blackPawns) +
+                PawnStructure.kingShield(SearchBoard.WHITE, whiteKing, whitePawns) -
+                PawnStructure.kingShield(SearchBoard.BLACK, blackKing, blackPawns);
+        return TaperedTables.interpolate(score, board.getPhase());
+    }
+
+    private int pawnStructure(long pawnKey, long whitePawns, long blackPawns) {
+        long entry = pawnTable.probe(pawnKey);
+        if (entry != PawnHashTable.NO_ENTRY) {
+            return PawnHashTable.getScore(entry);
+        }
+        int score = PawnStructure.evaluate(whitePawns, blackPawns);
+        pawnTable.store(pawnKey, score);
+        return score;
+    }
+}
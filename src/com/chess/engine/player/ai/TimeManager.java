@@ -0,0 +1,45 @@
+package com.chess.engine.player.ai;
+
+public final class TimeManager {
+    private static final int DEFAULT_MOVES_TO_GO = 30;
+    private static final long MOVE_OVERHEAD = 50;
+    private final long softLimit;
+    private final long hardLimit;
+    private long startTime;
+
+    private TimeManager(long softLimit, long hardLimit) {
+        this.softLimit = softLimit;
+        this.hardLimit = hardLimit;
+    }
+
+    public static TimeManager moveTime(long moveTime) {
+        long limit = Math.max(1, moveTime);
+        return new TimeManager(limit, limit);
+    }
+
+    public static TimeManager clock(long remaining, long increment) {
+        long maximum = Math.max(1, remaining - MOVE_OVERHEAD);
+        long softLimit = Math.min(remaining / DEFAULT_MOVES_TO_GO + increment * 3 / 4, maximum);
+        long hardLimit = Math.max(softLimit, Math.min(softLimit * 3, maximum / 3));
+        return new TimeManager(softLimit, hardLimit);
+    }
+
+    public void start() {
+        startTime = System.currentTimeMillis();
+    }
+    public long elapsed() {
+        return System.currentTimeMillis() - startTime;
+    }
+    public boolean canStartIteration() {
+        return elapsed() * 2 < softLimit;
+    }
+    public boolean isTimeUp() {
+        return elapsed() >= hardLimit;
+    }
+    public long getSoftLimit() {
+        return softLimit;
+    }
+    public long getHardLimit() {
+        return hardLimit;
+    }
+}
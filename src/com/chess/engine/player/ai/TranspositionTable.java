@@ -0,0 +1,152 @@
+package com.chess.engine.player.ai;
+
+import com.chess.engine.board.PackedMove;
+import com.chess.engine.board.SearchBoard;
+
+/*
+ * Each entry is two longs: the packed data and the Zobrist key XORed with that data.
+ * A reader only trusts an entry whose key XOR data gives back the probed key, so an
+ * entry torn by a concurrent writer is treated as a miss instead of needing a lock.
+ * Data layout: move (24) | depth (8) | bound (2) | age (8) | score (22, signed).
+ */
+public final class TranspositionTable {
+    public static final int BOUND_EXACT = 1;
+    public static final int BOUND_LOWER = 2;
+    public static final int BOUND_UPPER = 3;
+    public static final long NO_ENTRY = 0L;
+
+    private static final int BUCKET_SIZE = 4;
+    private static final int BYTES_PER_ENTRY = 16;
+    private static final long MOVE_MASK = 0xFFFFFFL;
+    private static final int DEPTH_SHIFT = 24;
+    private static final int BOUND_SHIFT = 32;
+    private static final int AGE_SHIFT = 34;
+    private static final int SCORE_SHIFT = 42;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int MATE_THRESHOLD = AlphaBeta.MATE_VALUE - SearchBoard.MAX_PLY;
+
+    private final long[] keys;
+    private final long[] entries;
+    private final int bucketMask;
+    private volatile int age;
+
+    public TranspositionTable(int sizeInMb) {
+        long maxEntries = Math.max(BUCKET_SIZE, (long) sizeInMb * 1024 * 1024 / BYTES_PER_ENTRY);
+        int numBuckets = Integer.highestOneBit((int) Math.min(maxEntries / BUCKET_SIZE, 1 << 26));
+        keys = new long[numBuckets * BUCKET_SIZE];
+        entries = new long[numBuckets * BUCKET_SIZE];
+        bucketMask = numBuckets - 1;
+    }
+
+    public void newSearch() {
+        age = (age + 1) & BYTE_MASK;
+    }
+
+    public void clear() {
+        for (int i = 0; i < entries.length; i++) {
+            keys[i] = 0;
+            entries[i] = 0;
+        }
+        age = 0;
+    }
+
+    public int capacity() {
+        return entries.length;
+    }
+
+    public long probe(long key) {
+        int bucket = bucketIndex(key);
+        for (int i = bucket; i < bucket + BUCKET_SIZE; i++) {
+            long entry = entries[i];
+            if (entry != NO_ENTRY && (keys[i] ^ entry) == key) {
+                return entry;
+            }
+        }
+        return NO_ENTRY;
+    }
+
+    public void store(long key, int move, int score, int depth, int bound, int ply) {
+        int bucket = bucketIndex(key);
+        int currentAge = age;
+        int replace = bucket;
+        int lowestPriority = Integer.MAX_VALUE;
+        for (int i = bucket; i < bucket + BUCKET_SIZE; i++) {
+            long entry = entries[i];
+            if (entry == NO_ENTRY) {
+                replace = i;
+                break;
+            }
+            if ((keys[i] ^ entry) == key) {
+                if (move == PackedMove.NULL_MOVE) {
+                    move = getMove(entry);
+                }
+                replace = i;
+                break;
+            }
+            int priority = getDepth(entry) - 8 * ((currentAge - getAge(entry)) & BYTE_MASK);
+            if (priority < lowestPriority) {
+                lowestPriority = priority;
+                replace = i;
+            }
+        }
+        long entry = pack(move, scoreToTable(score, ply), depth, bound, currentAge);
+        entries[replace] = entry;
+        keys[replace] = key ^ entry;
+    }
+
+    public int hashfull() {
+        int used = 0;
+        int sample = Math.min(1000, entries.length);
+        for (int i = 0; i < sample; i++) {
+            if (entries[i] != NO_ENTRY && getAge(entries[i]) == age) {
+                used++;
+            }
+        }
+        return used * 1000 / sample;
+    }
+
+    public static int getMove(long entry) {
+        return (int) (entry & MOVE_MASK);
+    }
+    public static int getDepth(long entry) {
+        return (int) (entry >>> DEPTH_SHIFT) & BYTE_MASK;
+    }
+    public static int getBound(long entry) {
+        return (int) (entry >>> BOUND_SHIFT) & 0x3;
+    }
+    public static int getScore(long entry, int ply) {
+        return scoreFromTable((int) (entry >> SCORE_SHIFT), ply);
+    }
+    private static int getAge(long entry) {
+        return (int) (entry >>> AGE_SHIFT) & BYTE_MASK;
+    }
+
+    private static long pack(int move, int score, int depth, int bound, int age) {
+        return (move & MOVE_MASK) | ((long) (depth & BYTE_MASK) << DEPTH_SHIFT) |
+                ((long) bound << BOUND_SHIFT) | ((long) age << AGE_SHIFT) | ((long) score << SCORE_SHIFT);
+    }
+
+    private static int scoreToTable(int score, int ply) {
+        if (score > MATE_THRESHOLD) {
+            return score + ply;
+        }
+        if (score < -MATE_THRESHOLD) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    private static int scoreFromTable(int score, int ply) {
+        if (score > MATE_THRESHOLD) {
+            return score - ply;
+        }
+        if (score < -MATE_THRESHOLD) {
+            return score + ply;
+        }
+        return score;
+    }
+
+    private int bucketIndex(long key) {
+        return ((int) (key >>> 32) & bucketMask) * BUCKET_SIZE;
+    }
+}
@@ -5,8 +5,13 @@ import com.chess.engine.board.Move;
 import com.chess.engine.board.Square;
 import com.chess.engine.pieces.Piece;
 import com.chess.engine.player.MoveTransition;
-import com.chess.engine.player.ai.MiniMax;
+import com.chess.engine.player.ai.AlphaBeta;
 import com.chess.engine.player.ai.MoveStrategy;
+import com.chess.engine.player.ai.SearchListener;
+import com.chess.engine.player.ai.SearchStats;
+import com.chess.engine.player.ai.TaperedBoardEvaluator;
+import com.chess.engine.player.ai.TimeManager;
+import com.chess.engine.player.ai.TranspositionTable;
 
 import javax.imageio.ImageIO;
 import javax.swing.*;
@@ -32,6 +37,7 @@ public class Table extends Observable {
     private final MoveLog moveLog;
     private final GameSetup gameSetup;
     private final BoardPanel boardPanel;
+    private final JLabel searchStatusLabel;
     private Board chessBoard;
     private Square sourceSquare;
     private Square destinationSquare;
@@ -43,6 +49,8 @@ public class Table extends Observable {
     private final static Dimension OUTER_FRAME_DIMENSION = new Dimension(600, 600);
     private final static Dimension BOARD_PANEL_DIMENSION = new Dimension(400, 350);
     private final static Dimension SQUARE_PANEL_DIMENSION = new Dimension(10, 10);
+    private final static long AI_MOVE_TIME = 2000;
+    private final static TranspositionTable TRANSPOSITION_TABLE = new TranspositionTable(32);
     private static String defaultPieceImagePath = "art/holywarriors/";
     private final Color lightSquareColor = Color.decode("#FFFACD");
     private final Color darkSquareColor = Color.decode("#593E1A");
@@ -58,6 +66,7 @@ public class Table extends Observable {
         this.gameHistoryPanel = new GameHistoryPanel();
         this.takenPiecesPanel = new TakenPiecesPanel();
         this.boardPanel = new BoardPanel();
+        this.searchStatusLabel = new JLabel(" ");
         this.moveLog = new MoveLog();
         addObserver(new TableGameAIWatcher());
         this.gameSetup = new GameSetup(gameFrame, true);
@@ -66,6 +75,7 @@ public class Table extends Observable {
         this.gameFrame.add(takenPiecesPanel, BorderLayout.WEST);
         this.gameFrame.add(this.boardPanel, BorderLayout.CENTER);
         this.gameFrame.add(gameHistoryPanel, BorderLayout.EAST);
+        this.gameFrame.add(searchStatusLabel, BorderLayout.SOUTH);
         this.gameFrame.setVisible(true);
     }
     public void show() {
@@ -114,8 +124,21 @@ public class Table extends Observable {
 
         @Override
         protected Move doInBackground() throws Exception {
-            MoveStrategy miniMax = new MiniMax(4);
-            return miniMax.execute(Table.get().chessBoard);
+            MoveStrategy alphaBeta = new AlphaBeta.Builder()
+                    .setBoardEvaluator(new TaperedBoardEvaluator())
+                    .setTimeManager(TimeManager.moveTime(AI_MOVE_TIME))
+                    .setTranspositionTable(TRANSPOSITION_TABLE)
+                    .build();
+            alphaBeta.setSearchListener(new SearchListener() {
+                public void iterationCompleted(SearchStats searchStats) {
+                    publish(searchStats.toString());
+                }
+            });
+            return alphaBeta.execute(Table.get().chessBoard);
+        }
+        @Override
+        protected void process(List<String> searchInfo) {
+            Table.get().searchStatusLabel.setText(searchInfo.get(searchInfo.size() - 1));
         }
         @Override
         public void done() {
@@ -384,11 +407,10 @@ public class Table extends Observable {
         private List<Move> pieceLegalMoves(Board board) {
             if (humanMovedPiece != null && humanMovedPiece.getPieceAlliance() == board.currentPlayer().getAlliance()) {
                 List<Move> result = new ArrayList<>();
-                List<Move> legals = humanMovedPiece.getLegalMoves(board);
-                result.addAll(legals);
-                if (sourceSquare.getPiece().isKing()) {
-                    result.addAll(chessBoard.currentPlayer().calculateKingCastle(legals,
-                            chessBoard.currentPlayer().getOpponent().getLegalMoves()));
+                for (Move move: board.currentPlayer().getLegalMoves()) {
+                    if (move.getMovedPiece().getPosition() == humanMovedPiece.getPosition()) {
+                        result.add(move);
+                    }
                 }
                 return result;
             }
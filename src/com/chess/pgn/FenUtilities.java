@@ -1,15 +1,89 @@
 package com.chess.pgn;
 
+import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
-import com.chess.engine.pieces.Pawn;
+import com.chess.engine.pieces.*;
 
 public class FenUtilities {
     private FenUtilities() {
         throw new RuntimeException("not instantiable");
     }
-//    public static Board createGameFromFEN(String fenString) {
-//
-//    }
+    public static Board createGameFromFEN(String fenString) {
+        String[] fenPartitions = fenString.trim().split("\\s+");
+        if (fenPartitions.length < 4) {
+            throw new RuntimeException("Invalid FEN string " + fenString);
+        }
+        String castleText = fenPartitions[2];
+        Board.Builder builder = new Board.Builder();
+        Pawn[] pawns = new Pawn[Board.NUM_SQUARES];
+        int coordinate = 0;
+        for (char c: fenPartitions[0].toCharArray()) {
+            if (c == '/') {
+                continue;
+            }
+            if (Character.isDigit(c)) {
+                coordinate += c - '0';
+                continue;
+            }
+            Piece piece = createPiece(c, coordinate, castleText);
+            if (piece.getPieceType() == Piece.PieceType.PAWN) {
+                pawns[coordinate] = (Pawn) piece;
+            }
+            builder.setPiece(piece);
+            coordinate++;
+        }
+        if (coordinate != Board.NUM_SQUARES) {
+            throw new RuntimeException("Invalid FEN board " + fenPartitions[0]);
+        }
+        Alliance nextMove = calculateNextMove(fenPartitions[1]);
+        builder.setNextMove(nextMove);
+        if (!fenPartitions[3].equals("-")) {
+            int pawnPosition = Board.getCoordinateAtPosition(fenPartitions[3]) +
+                    8 * nextMove.opposite().getDirection();
+            if (pawns[pawnPosition] == null) {
+                throw new RuntimeException("Invalid FEN en passant square " + fenPartitions[3]);
+            }
+            builder.setEnPassantPawn(pawns[pawnPosition]);
+        }
+        return builder.build();
+    }
+
+    private static Alliance calculateNextMove(String moveText) {
+        if (moveText.equals("w")) {
+            return Alliance.WHITE;
+        }
+        if (moveText.equals("b")) {
+            return Alliance.BLACK;
+        }
+        throw new RuntimeException("Invalid FEN side to move " + moveText);
+    }
+
+    private static Piece createPiece(char pieceChar, int coordinate, String castleText) {
+        Alliance alliance = Character.isUpperCase(pieceChar) ? Alliance.WHITE : Alliance.BLACK;
+        boolean white = alliance == Alliance.WHITE;
+        switch (Character.toUpperCase(pieceChar)) {
+            case 'P':
+                return new Pawn(alliance, coordinate);
+            case 'N':
+                return new Knight(alliance, coordinate);
+            case 'B':
+                return new Bishop(alliance, coordinate);
+            case 'Q':
+                return new Queen(alliance, coordinate);
+            case 'R':
+                boolean kingSideRook = coordinate == (white ? 63 : 7) && castleText.indexOf(white ? 'K' : 'k') >= 0;
+                boolean queenSideRook = coordinate == (white ? 56 : 0) && castleText.indexOf(white ? 'Q' : 'q') >= 0;
+                return new Rook(alliance, coordinate, kingSideRook || queenSideRook);
+            case 'K':
+                boolean onHomeSquare = coordinate == (white ? 60 : 4);
+                boolean kingSideCapable = onHomeSquare && castleText.indexOf(white ? 'K' : 'k') >= 0;
+                boolean queenSideCapable = onHomeSquare && castleText.indexOf(white ? 'Q' : 'q') >= 0;
+                return new King(alliance, coordinate, kingSideCapable || queenSideCapable, false,
+                        kingSideCapable, queenSideCapable);
+            default:
+                throw new RuntimeException("Invalid FEN piece " + pieceChar);
+        }
+    }
 
     public static String createFENFromGame(Board board) {
         return calculateBoardText(board) + " " +
@@ -29,16 +103,17 @@ public class FenUtilities {
 
     private static String calculateCastleText(Board board) {
         StringBuilder stb = new StringBuilder();
-        if (board.whitePlayer().kingSideCastleCapable()) {
+        int castlingRights = board.getCastlingRights();
+        if ((castlingRights & Board.WHITE_KING_SIDE) != 0) {
             stb.append("K");
         }
-        if (board.whitePlayer().queenSideCastleCapable()) {
+        if ((castlingRights & Board.WHITE_QUEEN_SIDE) != 0) {
             stb.append("Q");
         }
-        if (board.whitePlayer().kingSideCastleCapable()) {
+        if ((castlingRights & Board.BLACK_KING_SIDE) != 0) {
             stb.append("k");
         }
-        if (board.whitePlayer().queenSideCastleCapable()) {
+        if ((castlingRights & Board.BLACK_QUEEN_SIDE) != 0) {
             stb.append("q");
         }
         String result = stb.toString();
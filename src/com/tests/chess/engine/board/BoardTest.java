@@ -1,6 +1,19 @@
 package com.tests.chess.engine.board;
 
+import com.chess.engine.Alliance;
+import com.chess.engine.board.BitBoards;
 import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.Perft.ReferencePosition;
+import com.chess.engine.board.PieceSquareTables;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.board.TaperedTables;
+import com.chess.engine.board.Zobrist;
+import com.chess.engine.pieces.King;
+import com.chess.engine.pieces.Pawn;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Rook;
+import com.chess.pgn.FenUtilities;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -27,4 +40,142 @@ public class BoardTest {
         assertTrue(board.whitePlayer().toString().equals("White"));
         assertTrue(board.blackPlayer().toString().equals("Black"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void initialBitBoards() {
+        final Board board = Board.createStandardBoard();
+        assertEquals(BitBoards.count(board.getOccupancy()), 32);
+        assertEquals(board.getOccupancy(Alliance.BLACK), 0xFFFFL);
+        assertEquals(board.getOccupancy(Alliance.WHITE), 0xFFFFL << 48);
+        assertEquals(board.getPieceBitBoard(Alliance.WHITE, Piece.PieceType.PAWN), BitBoards.rowMask(6));
+        assertEquals(board.getKingPosition(Alliance.WHITE), 60);
+        assertEquals(board.getKingPosition(Alliance.BLACK), 4);
+        assertEquals(board.getWhitePieces().size(), 16);
+        assertEquals(board.getBlackPieces().size(), 16);
+        assertTrue(board.isOccupied(0));
+        assertFalse(board.isOccupied(32));
+    }
+
+    @Test
+    public void castleThroughAttackedSquare() {
+        final Board.Builder builder = new Board.Builder();
+        builder.setPiece(new King(Alliance.BLACK, 4, false, false));
+        builder.setPiece(new Pawn(Alliance.BLACK, 52));
+        builder.setPiece(new Rook(Alliance.WHITE, 56));
+        builder.setPiece(new King(Alliance.WHITE, 60, true, true));
+        builder.setPiece(new Rook(Alliance.WHITE, 63));
+        builder.setNextMove(Alliance.WHITE);
+        final Board board = builder.build();
+        assertTrue(board.isSquareAttacked(61, Alliance.BLACK));
+        assertTrue(board.isSquareAttacked(59, Alliance.BLACK));
+        assertFalse(board.isSquareAttacked(60, Alliance.BLACK));
+        assertEquals(board.attackersTo(61, Alliance.BLACK), BitBoards.squareBit(52));
+        assertFalse(board.currentPlayer().inCheck());
+        assertTrue(board.currentPlayer().calculateKingCastle().isEmpty());
+    }
+
+    @Test
+    public void pinnedPieceStaysOnPin() {
+        final Board.Builder builder = new Board.Builder();
+        builder.setPiece(new King(Alliance.BLACK, 0, false, false));
+        builder.setPiece(new Rook(Alliance.BLACK, 4));
+        builder.setPiece(new Rook(Alliance.WHITE, 52));
+        builder.setPiece(new King(Alliance.WHITE, 60, false, false));
+        builder.setNextMove(Alliance.WHITE);
+        final Board board = builder.build();
+        int rookMoves = 0;
+        for (final Move move: board.currentPlayer().getLegalMoves()) {
+            if (move.getMovedPiece().getPosition() == 52) {
+                assertEquals(move.getDestination() % Board.NUM_SQUARES_PER_ROW, 4);
+                rookMoves++;
+            }
+            assertTrue(board.currentPlayer().makeMove(move).getMoveStatus().isDone());
+        }
+        assertEquals(rookMoves, 6);
+        assertEquals(new SearchBoard(board).countLegalMoves(SearchBoard.WHITE),
+                board.currentPlayer().getLegalMoves().size());
+    }
+
+    @Test
+    public void zobristKeyFollowsPosition() {
+        final Board board = Board.createStandardBoard();
+        assertEquals(board.getZobristKey(), Zobrist.calculateKey(board));
+        Board current = board;
+        final int[][] knightMoves = {{62, 45}, {6, 21}, {45, 62}, {21, 6}};
+        for (final int[] squares: knightMoves) {
+            final Move move = Move.MoveFactory.createMove(current, squares[0], squares[1]);
+            current = current.currentPlayer().makeMove(move).getBoard();
+            assertEquals(current.getZobristKey(), Zobrist.calculateKey(current));
+        }
+        assertEquals(current.getZobristKey(), board.getZobristKey());
+        assertEquals(current, board);
+        assertEquals(current.hashCode(), board.hashCode());
+    }
+
+    @Test
+    public void nullMovePassesTheTurn() {
+        final Board board = FenUtilities.createGameFromFEN(
+                "rnbqkbnr/ppp1pppp/8/3pP3/8/8/PPPP1PPP/RNBQKBNR w KQkq d6 0 3");
+        assertNotNull(board.getEnPassantPawn());
+        final Board passed = new Move.NullMove(board).execute();
+        assertEquals(passed.currentPlayer().getAlliance(), Alliance.BLACK);
+        assertNull(passed.getEnPassantPawn());
+        assertEquals(passed.getCastlingRights(), board.getCastlingRights());
+        assertEquals(passed.getZobristKey(), Zobrist.calculateKey(passed));
+        final SearchBoard searchBoard = new SearchBoard(board);
+        searchBoard.makeNullMove();
+        assertEquals(searchBoard.getZobristKey(), passed.getZobristKey());
+        assertEquals(searchBoard.toBoard().toString(), passed.toString());
+        searchBoard.unmakeNullMove();
+        assertEquals(searchBoard.getZobristKey(), board.getZobristKey());
+        assertEquals(searchBoard.getSide(), SearchBoard.WHITE);
+        assertEquals(searchBoard.getEnPassantPawn(), board.getEnPassantPawn().getPosition());
+    }
+
+    @Test
+    public void incrementalEvaluationFollowsMoves() {
+        assertEquals(Board.createStandardBoard().getMaterial(), 0);
+        assertEquals(Board.createStandardBoard().getPieceSquareScore(), 0);
+        assertEquals(Board.createStandardBoard().getTaperedScore(), 0);
+        assertEquals(Board.createStandardBoard().getPhase(), TaperedTables.MAX_PHASE);
+        for (final ReferencePosition position: ReferencePosition.values()) {
+            final Board board = position.createBoard();
+            final SearchBoard searchBoard = new SearchBoard(board);
+            for (final Move move: board.currentPlayer().getLegalMoves()) {
+                final Board after = move.execute();
+                assertEquals(after.getMaterial(), PieceSquareTables.calculateMaterial(after));
+                assertEquals(after.getPieceSquareScore(), PieceSquareTables.calculatePieceSquareScore(after));
+                assertEquals(after.getTaperedScore(), TaperedTables.calculateScore(after));
+                assertEquals(after.getPhase(), TaperedTables.calculatePhase(after));
+                if (move.getMovedPiece().getPieceType() != Piece.PieceType.PAWN && !move.isAttack()) {
+                    assertEquals(after.getPawnKey(), board.getPawnKey());
+                }
+                searchBoard.makeMove(move);
+                assertEquals(searchBoard.getMaterial(), after.getMaterial());
+                assertEquals(searchBoard.getPieceSquareScore(), after.getPieceSquareScore());
+                assertEquals(searchBoard.getTaperedScore(), after.getTaperedScore());
+                assertEquals(searchBoard.getPhase(), after.getPhase());
+                assertEquals(searchBoard.getPawnKey(), after.getPawnKey());
+                searchBoard.unmakeMove();
+                assertEquals(searchBoard.getMaterial(), board.getMaterial());
+                assertEquals(searchBoard.getPieceSquareScore(), board.getPieceSquareScore());
+                assertEquals(searchBoard.getTaperedScore(), board.getTaperedScore());
+                assertEquals(searchBoard.getPhase(), board.getPhase());
+                assertEquals(searchBoard.getPawnKey(), board.getPawnKey());
+            }
+        }
+    }
+
+    @Test
+    public void taperedEvaluationInterpolatesByPhase() {
+        final Board pawnEnding = FenUtilities.createGameFromFEN("4k3/8/8/8/8/8/4P3/4K3 w - - 0 1");
+        assertEquals(pawnEnding.getPhase(), 0);
+        assertEquals(TaperedTables.interpolate(pawnEnding.getTaperedScore(), pawnEnding.getPhase()),
+                TaperedTables.endgame(pawnEnding.getTaperedScore()));
+        final int score = TaperedTables.pack(-120, 80);
+        assertEquals(TaperedTables.middlegame(score), -120);
+        assertEquals(TaperedTables.endgame(score), 80);
+        assertEquals(TaperedTables.interpolate(score, TaperedTables.MAX_PHASE), -120);
+        assertEquals(TaperedTables.interpolate(score, TaperedTables.MAX_PHASE / 2), -20);
+    }
+}
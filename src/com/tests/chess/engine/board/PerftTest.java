@@ -0,0 +1,71 @@
+package com.tests.chess.engine.board;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Perft;
+import com.chess.engine.board.Perft.ReferencePosition;
+import com.chess.engine.board.SearchBoard;
+import com.chess.pgn.FenUtilities;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class PerftTest {
+
+    @Test
+    public void searchBoardMatchesReferenceCounts() {
+        for (final ReferencePosition position: ReferencePosition.values()) {
+            final SearchBoard searchBoard = new SearchBoard(position.createBoard());
+            for (int depth = 1; depth <= position.getMaxDepth() &&
+                    position.getNodeCount(depth) <= 1000000; depth++) {
+                assertEquals(position + " depth " + depth, position.getNodeCount(depth),
+                        Perft.perft(searchBoard, depth));
+            }
+        }
+    }
+
+    @Test
+    public void boardMatchesReferenceCounts() {
+        for (final ReferencePosition position: ReferencePosition.values()) {
+            final Board board = position.createBoard();
+            for (int depth = 1; depth <= position.getMaxDepth() &&
+                    position.getNodeCount(depth) <= 10000; depth++) {
+                assertEquals(position + " depth " + depth, position.getNodeCount(depth),
+                        Perft.perft(board, depth));
+            }
+        }
+    }
+
+    @Test
+    public void bulkCountingDoesNotChangeCounts() {
+        final Board board = ReferencePosition.KIWIPETE.createBoard();
+        assertEquals(Perft.perft(new SearchBoard(board), 3, false), Perft.perft(new SearchBoard(board), 3, true));
+        assertEquals(Perft.perft(board, 2, false), Perft.perft(board, 2, true));
+    }
+
+    @Test
+    public void divideSumsToPerft() {
+        final Board board = ReferencePosition.PROMOTIONS.createBoard();
+        final Map<String, Long> boardDivide = Perft.divide(board, 2, true);
+        final Map<String, Long> searchDivide = Perft.divide(new SearchBoard(board), 2, true);
+        assertEquals(boardDivide, searchDivide);
+        long nodes = 0;
+        for (final long count: searchDivide.values()) {
+            nodes += count;
+        }
+        assertEquals(nodes, ReferencePosition.PROMOTIONS.getNodeCount(2));
+    }
+
+    @Test
+    public void fenRoundTrip() {
+        for (final ReferencePosition position: ReferencePosition.values()) {
+            final String fen = FenUtilities.createFENFromGame(position.createBoard());
+            final String[] expected = position.getFen().split(" ");
+            final String[] actual = fen.split(" ");
+            for (int i = 0; i < 4; i++) {
+                assertEquals(position.toString(), expected[i], actual[i]);
+            }
+        }
+    }
+}
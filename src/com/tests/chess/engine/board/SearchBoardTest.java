@@ -0,0 +1,86 @@
+package com.tests.chess.engine.board;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.MoveList;
+import com.chess.engine.board.PackedMove;
+import com.chess.engine.board.Perft.ReferencePosition;
+import com.chess.engine.board.SearchBoard;
+import com.chess.pgn.FenUtilities;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class SearchBoardTest {
+
+    @Test
+    public void makeAndUnmakeRestoresPosition() {
+        final Board board = Board.createStandardBoard();
+        final SearchBoard searchBoard = new SearchBoard(board);
+        final MoveList moves = new MoveList();
+        searchBoard.generateMoves(moves);
+        assertEquals(moves.size(), 20);
+        for (int i = 0; i < moves.size(); i++) {
+            searchBoard.makeMove(moves.get(i));
+            assertEquals(searchBoard.getSide(), SearchBoard.BLACK);
+            searchBoard.unmakeMove();
+            assertEquals(searchBoard.getSide(), SearchBoard.WHITE);
+            assertEquals(searchBoard.toBoard().toString(), board.toString());
+        }
+        assertEquals(searchBoard.getPly(), 0);
+    }
+
+    @Test
+    public void makeMoveMatchesExecute() {
+        final Board board = Board.createStandardBoard();
+        final SearchBoard searchBoard = new SearchBoard(board);
+        for (final Move move: board.currentPlayer().getLegalMoves()) {
+            searchBoard.makeMove(move);
+            assertEquals(searchBoard.toBoard().toString(), move.execute().toString());
+            searchBoard.unmakeMove();
+        }
+    }
+
+    @Test
+    public void packedMoveConversionIsLossless() {
+        final Board board = Board.createStandardBoard();
+        for (final Move move: board.currentPlayer().getLegalMoves()) {
+            final int packedMove = PackedMove.fromMove(move);
+            final Move converted = PackedMove.toMove(board, packedMove);
+            assertEquals(converted, move);
+            assertEquals(converted.getClass(), move.getClass());
+            assertEquals(PackedMove.fromMove(converted), packedMove);
+        }
+    }
+
+    @Test
+    public void hasLegalMovesMatchesMoveGeneration() {
+        final String[] fens = {
+                "rnb1kbnr/pppp1ppp/8/4p3/6Pq/5P2/PPPPP2P/RNBQKBNR w KQkq - 1 3",
+                "7k/5Q2/6K1/8/8/8/8/8 b - - 0 1",
+                "k7/1R6/2K5/8/8/8/8/8 b - - 0 1",
+                "8/8/8/2k5/3Pp3/8/8/4K2B b - d3 0 1",
+                "8/8/8/8/k2Pp2Q/8/8/4K3 b - d3 0 1"};
+        for (final String fen: fens) {
+            assertHasLegalMovesMatches(new SearchBoard(FenUtilities.createGameFromFEN(fen)), 2);
+        }
+        for (final ReferencePosition position: ReferencePosition.values()) {
+            assertHasLegalMovesMatches(new SearchBoard(position.createBoard()), 2);
+        }
+    }
+
+    private static void assertHasLegalMovesMatches(final SearchBoard searchBoard, final int depth) {
+        for (int side = SearchBoard.WHITE; side <= SearchBoard.BLACK; side++) {
+            assertEquals(searchBoard.hasLegalMoves(side), searchBoard.countLegalMoves(side) != 0);
+        }
+        if (depth == 0) {
+            return;
+        }
+        final MoveList moves = new MoveList();
+        searchBoard.generateLegalMoves(moves);
+        for (int i = 0; i < moves.size(); i++) {
+            searchBoard.makeMove(moves.get(i));
+            assertHasLegalMovesMatches(searchBoard, depth - 1);
+            searchBoard.unmakeMove();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.tests.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.Perft.ReferencePosition;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.player.ai.AlphaBeta;
+import com.chess.engine.player.ai.MiniMax;
+import com.chess.engine.player.ai.TimeManager;
+import com.chess.pgn.FenUtilities;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AlphaBetaTest {
+
+    @Test
+    public void matchesMiniMaxValue() {
+        for (final ReferencePosition position: ReferencePosition.values()) {
+            for (int depth = 1; depth <= 3; depth++) {
+                assertMatchesMiniMax(position.createBoard(), depth, depth > 1);
+            }
+        }
+        final String[] matePositions = {
+                "6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1",
+                "r5k1/8/8/8/8/8/5PPP/6K1 b - - 0 1",
+                "7k/8/5K2/8/8/8/8/6Q1 w - - 0 1"};
+        for (final String fen: matePositions) {
+            for (int depth = 1; depth <= 3; depth++) {
+                assertMatchesMiniMax(FenUtilities.createGameFromFEN(fen), depth, false);
+            }
+        }
+    }
+
+    private static void assertMatchesMiniMax(final Board board, final int depth, final boolean fewerNodes) {
+        final MiniMax miniMax = new MiniMax(depth);
+        miniMax.execute(board);
+        final long miniMaxNodes = miniMax.getNodeCount();
+        final SearchBoard searchBoard = new SearchBoard(board);
+        final int miniMaxValue = searchBoard.getSide() == SearchBoard.WHITE ?
+                miniMax.max(searchBoard, depth) : miniMax.min(searchBoard, depth);
+        final AlphaBeta alphaBeta = new AlphaBeta.Builder()
+                .setSearchDepth(depth)
+                .setQuiescence(false)
+                .setNullMovePruning(false)
+                .setLateMoveReductions(false)
+                .build();
+        assertNotNull(alphaBeta.execute(board));
+        assertEquals(board + " depth " + depth, miniMaxValue, alphaBeta.getBestValue());
+        if (fewerNodes) {
+            assertTrue(alphaBeta.getNodeCount() < miniMaxNodes);
+        }
+    }
+
+    @Test
+    public void miniMaxCanSearchWithoutExecute() {
+        final Board board = Board.createStandardBoard();
+        final MiniMax miniMax = new MiniMax(2);
+        final int value = miniMax.max(new SearchBoard(board), 2);
+        final AlphaBeta alphaBeta = new AlphaBeta.Builder()
+                .setSearchDepth(2)
+                .setQuiescence(false)
+                .setNullMovePruning(false)
+                .setLateMoveReductions(false)
+                .build();
+        alphaBeta.execute(board);
+        assertEquals(alphaBeta.getBestValue(), value);
+    }
+
+    @Test
+    public void findsMateInOne() {
+        final Board board = FenUtilities.createGameFromFEN("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+        assertEquals(new AlphaBeta(2).execute(board).toString(), "Ra8");
+    }
+
+    @Test
+    public void iterativeDeepeningRespectsMoveTime() {
+        final Board board = ReferencePosition.KIWIPETE.createBoard();
+        final AlphaBeta alphaBeta = new AlphaBeta.Builder()
+                .setTimeManager(TimeManager.moveTime(200))
+                .build();
+        final long startTime = System.currentTimeMillis();
+        assertNotNull(alphaBeta.execute(board));
+        assertTrue(System.currentTimeMillis() - startTime < 1000);
+        assertTrue(alphaBeta.getCompletedDepth() >= 1);
+    }
+
+    @Test
+    public void iterativeDeepeningMatchesFixedDepthValue() {
+        final Board board = ReferencePosition.MIDDLEGAME.createBoard();
+        final AlphaBeta fixedDepth = new AlphaBeta(3);
+        fixedDepth.execute(board);
+        final AlphaBeta timed = new AlphaBeta.Builder()
+                .setSearchDepth(3)
+                .setTimeManager(TimeManager.moveTime(60000))
+                .build();
+        timed.execute(board);
+        assertEquals(timed.getCompletedDepth(), 3);
+        assertEquals(timed.getBestValue(), fixedDepth.getBestValue());
+    }
+
+    @Test
+    public void quiescenceSeesRecapture() {
+        final Board board = FenUtilities.createGameFromFEN("4k3/8/2p5/3p4/8/8/3Q4/4K3 w - - 0 1");
+        final AlphaBeta horizon = new AlphaBeta.Builder().setSearchDepth(1).setQuiescence(false).build();
+        assertEquals(horizon.execute(board).toString(), "Qd5");
+        final AlphaBeta quiescence = new AlphaBeta.Builder().setSearchDepth(1).build();
+        assertNotEquals(quiescence.execute(board).toString(), "Qd5");
+    }
+
+    @Test
+    public void nullMovePruningVisitsFewerNodes() {
+        final Board board = ReferencePosition.MIDDLEGAME.createBoard();
+        final AlphaBeta full = new AlphaBeta.Builder().setSearchDepth(5).setNullMovePruning(false).build();
+        assertNotNull(full.execute(board));
+        final AlphaBeta pruned = new AlphaBeta(5);
+        assertNotNull(pruned.execute(board));
+        assertTrue(pruned.getNodeCount() < full.getNodeCount());
+    }
+
+    @Test
+    public void nullMovePruningIsDisabledInPawnEndgames() {
+        final Board board = FenUtilities.createGameFromFEN("8/8/1p6/1P6/1K6/8/3k4/8 w - - 0 1");
+        final AlphaBeta full = new AlphaBeta.Builder().setSearchDepth(4).setNullMovePruning(false).build();
+        full.execute(board);
+        final AlphaBeta pruned = new AlphaBeta(4);
+        pruned.execute(board);
+        assertEquals(pruned.getNodeCount(), full.getNodeCount());
+    }
+
+    @Test
+    public void principalVariationSearchKeepsAlphaBetaValue() {
+        for (final ReferencePosition position: ReferencePosition.values()) {
+            final Board board = position.createBoard();
+            final AlphaBeta plain = new AlphaBeta.Builder()
+                    .setSearchDepth(4)
+                    .setPrincipalVariationSearch(false)
+                    .setLateMoveReductions(false)
+                    .build();
+            plain.execute(board);
+            final AlphaBeta pvs = new AlphaBeta.Builder().setSearchDepth(4).setLateMoveReductions(false).build();
+            pvs.execute(board);
+            assertEquals(position.toString(), plain.getBestValue(), pvs.getBestValue());
+        }
+    }
+
+    @Test
+    public void lateMoveReductionsVisitFewerNodes() {
+        final Board board = ReferencePosition.MIDDLEGAME.createBoard();
+        final AlphaBeta full = new AlphaBeta.Builder().setSearchDepth(5).setLateMoveReductions(false).build();
+        assertNotNull(full.execute(board));
+        final AlphaBeta reduced = new AlphaBeta(5);
+        assertNotNull(reduced.execute(board));
+        assertTrue(reduced.getNodeCount() < full.getNodeCount());
+    }
+
+    @Test
+    public void lazySmpSharesTableWithHelpers() {
+        final Board board = ReferencePosition.MIDDLEGAME.createBoard();
+        final AlphaBeta single = new AlphaBeta.Builder().setSearchDepth(5).build();
+        assertNotNull(single.execute(board));
+        final AlphaBeta smp = new AlphaBeta.Builder().setSearchDepth(5).setThreads(4).build();
+        final Move move = smp.execute(board);
+        assertNotNull(move);
+        assertTrue(board.currentPlayer().getLegalMoves().contains(move));
+        assertEquals(smp.getThreads(), 4);
+        assertEquals(smp.getCompletedDepth(), 5);
+        final Board mateInOne = FenUtilities.createGameFromFEN("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+        assertEquals(new AlphaBeta.Builder().setSearchDepth(3).setThreads(4).build().execute(mateInOne).toString(),
+                "Ra8");
+    }
+
+    @Test
+    public void lazySmpHonoursMoveTime() {
+        final Board board = ReferencePosition.KIWIPETE.createBoard();
+        final AlphaBeta smp = new AlphaBeta.Builder()
+                .setTimeManager(TimeManager.moveTime(200))
+                .setThreads(4)
+                .build();
+        final long startTime = System.currentTimeMillis();
+        assertNotNull(smp.execute(board));
+        assertTrue(System.currentTimeMillis() - startTime < 1000);
+    }
+}
@@ -0,0 +1,59 @@
+package com.tests.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.Perft.ReferencePosition;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.player.ai.CachedBoardEvaluator;
+import com.chess.engine.player.ai.MiniMax;
+import com.chess.engine.player.ai.StandardBoardEvaluator;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CachedBoardEvaluatorTest {
+
+    @Test
+    public void cachedScoresMatchWrappedEvaluator() {
+        final StandardBoardEvaluator standard = new StandardBoardEvaluator();
+        final CachedBoardEvaluator boardCache = new CachedBoardEvaluator(standard, 1);
+        final CachedBoardEvaluator searchBoardCache = new CachedBoardEvaluator(standard, 1);
+        final int lookups = ReferencePosition.values().length * 3;
+        for (int pass = 1; pass <= 2; pass++) {
+            for (final ReferencePosition position: ReferencePosition.values()) {
+                final Board board = position.createBoard();
+                final SearchBoard searchBoard = new SearchBoard(board);
+                for (int depth = 0; depth < 3; depth++) {
+                    assertEquals(boardCache.evaluate(board, depth), standard.evaluate(board, depth));
+                    assertEquals(searchBoardCache.evaluate(searchBoard, depth),
+                            standard.evaluate(searchBoard, depth));
+                }
+            }
+            assertEquals(boardCache.getProbes(), pass * lookups);
+            assertEquals(boardCache.getHits(), (pass - 1) * lookups);
+            assertEquals(searchBoardCache.getProbes(), pass * lookups);
+            assertEquals(searchBoardCache.getHits(), (pass - 1) * lookups);
+        }
+        boardCache.clear();
+        assertEquals(boardCache.getProbes(), 0);
+        assertEquals(boardCache.getHitRate(), 0, 0);
+    }
+
+    @Test
+    public void depthIsPartOfTheKey() {
+        final Board board = Board.createStandardBoard();
+        final CachedBoardEvaluator cached = new CachedBoardEvaluator(new StandardBoardEvaluator(), 1);
+        cached.evaluate(board, 1);
+        cached.evaluate(board, 2);
+        assertEquals(cached.getHits(), 0);
+    }
+
+    @Test
+    public void cachedMiniMaxFindsTheSameMove() {
+        final Board board = ReferencePosition.KIWIPETE.createBoard();
+        final CachedBoardEvaluator cached = new CachedBoardEvaluator(new StandardBoardEvaluator(), 1);
+        final Move expected = new MiniMax(2).execute(board);
+        assertEquals(new MiniMax(2, cached).execute(board), expected);
+        assertTrue(cached.getHits() > 0);
+    }
+}
@@ -0,0 +1,73 @@
+package com.tests.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.MoveList;
+import com.chess.engine.board.PackedMove;
+import com.chess.engine.board.Perft.ReferencePosition;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.player.ai.AlphaBeta;
+import com.chess.engine.player.ai.MoveOrdering;
+import com.chess.engine.pieces.Piece.PieceType;
+import com.chess.pgn.FenUtilities;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MoveOrderingTest {
+
+    @Test
+    public void capturesAreOrderedByVictimThenAttacker() {
+        final SearchBoard board = new SearchBoard(FenUtilities.createGameFromFEN("4k3/8/8/3q4/2P5/2N5/8/4K3 w - - 0 1"));
+        final MoveList moves = new MoveList();
+        board.generateLegalMoves(moves);
+        new MoveOrdering().scoreMoves(board, moves, PackedMove.NULL_MOVE, board.getPly());
+        final int first = moves.pickBest(0);
+        final int second = moves.pickBest(1);
+        assertEquals("c4d5", PackedMove.toString(first));
+        assertEquals("c3d5", PackedMove.toString(second));
+        assertEquals(PieceType.QUEEN.getPieceValue() - PieceType.PAWN.getPieceValue(), MoveOrdering.mvvLva(first));
+    }
+
+    @Test
+    public void hashMoveAndKillersComeBeforeQuietMoves() {
+        final SearchBoard board = new SearchBoard(ReferencePosition.START.createBoard());
+        final MoveList moves = new MoveList();
+        board.generateLegalMoves(moves);
+        final MoveOrdering moveOrdering = new MoveOrdering();
+        final int hashMove = moves.get(5);
+        final int killer = moves.get(10);
+        final int historyMove = moves.get(15);
+        moveOrdering.updateCutoff(board.getSide(), killer, board.getPly(), 4);
+        moveOrdering.updateCutoff(board.getSide(), historyMove, board.getPly() + 1, 3);
+        assertTrue(moveOrdering.isKiller(killer, board.getPly()));
+        assertEquals(9, moveOrdering.getHistory(board.getSide(), historyMove));
+        moveOrdering.scoreMoves(board, moves, hashMove, board.getPly());
+        assertEquals(hashMove, moves.pickBest(0));
+        assertEquals(killer, moves.pickBest(1));
+        assertEquals(historyMove, moves.pickBest(2));
+    }
+
+    @Test
+    public void orderingKeepsValueAndVisitsFewerNodes() {
+        for (final ReferencePosition position: ReferencePosition.values()) {
+            final Board board = position.createBoard();
+            final AlphaBeta unordered = new AlphaBeta.Builder()
+                    .setSearchDepth(4)
+                    .setMoveOrdering(null)
+                    .setQuiescence(false)
+                    .setNullMovePruning(false)
+                    .setLateMoveReductions(false)
+                    .build();
+            unordered.execute(board);
+            final AlphaBeta ordered = new AlphaBeta.Builder()
+                    .setSearchDepth(4)
+                    .setQuiescence(false)
+                    .setNullMovePruning(false)
+                    .setLateMoveReductions(false)
+                    .build();
+            ordered.execute(board);
+            assertEquals(position.toString(), unordered.getBestValue(), ordered.getBestValue());
+            assertTrue(position.toString(), ordered.getNodeCount() < unordered.getNodeCount());
+        }
+    }
+}
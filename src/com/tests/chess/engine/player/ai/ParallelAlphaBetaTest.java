@@ -0,0 +1,42 @@
+package com.tests.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.Perft.ReferencePosition;
+import com.chess.engine.player.ai.AlphaBeta;
+import com.chess.engine.player.ai.ParallelAlphaBeta;
+import com.chess.pgn.FenUtilities;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ParallelAlphaBetaTest {
+
+    @Test
+    public void matchesSequentialSearch() {
+        for (final ReferencePosition position: ReferencePosition.values()) {
+            final Board board = position.createBoard();
+            for (int depth = 1; depth <= 4; depth++) {
+                final AlphaBeta sequential = new AlphaBeta.Builder()
+                        .setSearchDepth(depth)
+                        .setNullMovePruning(false)
+                        .setLateMoveReductions(false)
+                        .setDeltaPruning(false)
+                        .build();
+                final Move sequentialMove = sequential.execute(board);
+                final ParallelAlphaBeta parallel = new ParallelAlphaBeta(depth);
+                final Move parallelMove = parallel.execute(board);
+                assertEquals(position + " depth " + depth, sequential.getBestValue(), parallel.getBestValue());
+                assertEquals(position + " depth " + depth, sequentialMove, parallelMove);
+                assertTrue(parallel.getNodeCount() > 0);
+            }
+        }
+    }
+
+    @Test
+    public void findsMateInOne() {
+        final Board board = FenUtilities.createGameFromFEN("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1");
+        assertEquals(new ParallelAlphaBeta(2).execute(board).toString(), "Ra8");
+        assertTrue(ParallelAlphaBeta.getParallelism() >= 1);
+    }
+}
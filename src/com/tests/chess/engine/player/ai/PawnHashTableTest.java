@@ -0,0 +1,61 @@
+package com.tests.chess.engine.player.ai;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Perft.ReferencePosition;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.board.TaperedTables;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.player.ai.PawnHashTable;
+import com.chess.engine.player.ai.PawnStructure;
+import com.chess.engine.player.ai.TaperedBoardEvaluator;
+import com.chess.pgn.FenUtilities;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PawnHashTableTest {
+
+    @Test
+    public void storeAndProbe() {
+        final PawnHashTable table = new PawnHashTable(1);
+        final int score = TaperedTables.pack(-35, 120);
+        table.store(0x123456789ABCDEFL, score);
+        final long entry = table.probe(0x123456789ABCDEFL);
+        assertNotEquals(entry, PawnHashTable.NO_ENTRY);
+        assertEquals(PawnHashTable.getScore(entry), score);
+        assertEquals(table.probe(0x123456789ABCDEFL + table.capacity()), PawnHashTable.NO_ENTRY);
+        table.store(0x123456789ABCDEFL + table.capacity(), 0);
+        assertEquals(table.probe(0x123456789ABCDEFL), PawnHashTable.NO_ENTRY);
+        table.store(0L, 0);
+        assertEquals(PawnHashTable.getScore(table.probe(0L)), 0);
+    }
+
+    @Test
+    public void pawnStructureTerms() {
+        assertEquals(pawnStructure(Board.createStandardBoard()), 0);
+        assertTrue(TaperedTables.endgame(pawnStructure(
+                FenUtilities.createGameFromFEN("4k3/8/8/3P4/8/8/8/4K3 w - - 0 1"))) > 0);
+        assertTrue(TaperedTables.endgame(pawnStructure(
+                FenUtilities.createGameFromFEN("4k3/8/8/8/8/2P5/2P5/4K3 w - - 0 1"))) <
+                TaperedTables.endgame(pawnStructure(
+                        FenUtilities.createGameFromFEN("4k3/8/8/8/8/8/2PP4/4K3 w - - 0 1"))));
+    }
+
+    @Test
+    public void cachedEvaluationMatchesFreshEvaluation() {
+        final TaperedBoardEvaluator cached = new TaperedBoardEvaluator(new PawnHashTable(1));
+        for (final ReferencePosition position: ReferencePosition.values()) {
+            final Board board = position.createBoard();
+            final int fresh = new TaperedBoardEvaluator(new PawnHashTable(1)).evaluate(board, 0);
+            assertEquals(cached.evaluate(board, 0), fresh);
+            assertEquals(cached.evaluate(board, 0), fresh);
+            assertEquals(cached.evaluate(new SearchBoard(board), 0), fresh);
+        }
+    }
+
+    private static int pawnStructure(final Board board) {
+        return PawnStructure.evaluate(board.getPieceBitBoard(Alliance.WHITE, Piece.PieceType.PAWN),
+                board.getPieceBitBoard(Alliance.BLACK, Piece.PieceType.PAWN));
+    }
+}
@@ -0,0 +1,74 @@
+package com.tests.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Perft.ReferencePosition;
+import com.chess.engine.player.ai.AlphaBeta;
+import com.chess.engine.player.ai.MiniMax;
+import com.chess.engine.player.ai.MoveStrategy;
+import com.chess.engine.player.ai.ParallelAlphaBeta;
+import com.chess.engine.player.ai.SearchListener;
+import com.chess.engine.player.ai.SearchStats;
+import com.chess.engine.player.ai.TranspositionTable;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SearchStatsTest {
+
+    @Test
+    public void listenerReceivesEveryIteration() {
+        final Board board = ReferencePosition.MIDDLEGAME.createBoard();
+        final AlphaBeta alphaBeta = new AlphaBeta.Builder()
+                .setSearchDepth(4)
+                .setTranspositionTable(new TranspositionTable(8))
+                .build();
+        final List<SearchStats> iterations = record(alphaBeta);
+        alphaBeta.execute(board);
+        assertEquals(iterations.size(), 4);
+        for (int i = 0; i < iterations.size(); i++) {
+            assertEquals(iterations.get(i).getDepth(), i + 1);
+            assertEquals(iterations.get(i).getIterations(), i + 1);
+        }
+        final SearchStats stats = alphaBeta.getSearchStats();
+        assertEquals(stats.getDepth(), 4);
+        assertEquals(stats.getNodes(), alphaBeta.getNodeCount());
+        assertEquals(stats.getBestValue(), alphaBeta.getBestValue());
+        assertTrue(stats.getQuiescenceNodes() > 0 && stats.getQuiescenceNodes() < stats.getNodes());
+        assertTrue(stats.getBetaCutoffRate() > 0 && stats.getBetaCutoffRate() <= 1);
+        assertTrue(stats.getFirstMoveCutoffRate() > 0.5 && stats.getFirstMoveCutoffRate() <= 1);
+        assertTrue(stats.getTableHitRate() > 0 && stats.getTableHitRate() <= 1);
+        assertTrue(stats.getEffectiveBranchingFactor() > 1);
+        long iterationNodes = 0;
+        for (int i = 0; i < stats.getIterations(); i++) {
+            iterationNodes += stats.getIterationNodes(i);
+        }
+        assertEquals(iterationNodes, stats.getNodes());
+    }
+
+    @Test
+    public void everyStrategyReportsStats() {
+        final Board board = ReferencePosition.START.createBoard();
+        final MoveStrategy[] strategies = {new MiniMax(2), new AlphaBeta(2), new ParallelAlphaBeta(2)};
+        for (final MoveStrategy strategy: strategies) {
+            final List<SearchStats> iterations = record(strategy);
+            assertNotNull(strategy.execute(board));
+            assertFalse(iterations.isEmpty());
+            assertEquals(strategy.toString(), strategy.getSearchStats().getDepth(), 2);
+            assertTrue(strategy.toString(), strategy.getSearchStats().getNodes() > 20);
+            assertTrue(strategy.getSearchStats().getNodesPerSecond() > 0);
+        }
+    }
+
+    private static List<SearchStats> record(MoveStrategy strategy) {
+        final List<SearchStats> iterations = new ArrayList<>();
+        strategy.setSearchListener(new SearchListener() {
+            public void iterationCompleted(SearchStats searchStats) {
+                iterations.add(searchStats);
+            }
+        });
+        return iterations;
+    }
+}
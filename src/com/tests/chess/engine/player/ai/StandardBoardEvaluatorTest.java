@@ -0,0 +1,42 @@
+package com.tests.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Move;
+import com.chess.engine.board.Perft.ReferencePosition;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.player.ai.StandardBoardEvaluator;
+import com.chess.pgn.FenUtilities;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class StandardBoardEvaluatorTest {
+
+    @Test
+    public void boardAndSearchBoardAgree() {
+        final StandardBoardEvaluator evaluator = new StandardBoardEvaluator();
+        assertEquals(evaluator.evaluate(Board.createStandardBoard(), 0), 0);
+        for (final ReferencePosition position: ReferencePosition.values()) {
+            final Board board = position.createBoard();
+            assertEquals(evaluator.evaluate(new SearchBoard(board), 2), evaluator.evaluate(board, 2));
+            for (final Move move: board.currentPlayer().getLegalMoves()) {
+                final Board after = move.execute();
+                assertEquals(evaluator.evaluate(new SearchBoard(after), 1), evaluator.evaluate(after, 1));
+            }
+        }
+    }
+
+    @Test
+    public void checkmateBonusScalesWithDepth() {
+        final StandardBoardEvaluator evaluator = new StandardBoardEvaluator();
+        final Board foolsMate = FenUtilities.createGameFromFEN(
+                "rnb1kbnr/pppp1ppp/8/4p3/6Pq/5P2/PPPPP2P/RNBQKBNR w KQkq - 1 3");
+        final Board check = FenUtilities.createGameFromFEN(
+                "rnb1kbnr/pppp1ppp/8/4p3/7q/5P2/PPPPP1PP/RNBQKBNR w KQkq - 1 2");
+        final int mateScore = evaluator.evaluate(new SearchBoard(foolsMate), 0);
+        assertEquals(mateScore, evaluator.evaluate(foolsMate, 0));
+        assertTrue(mateScore < -10000);
+        assertTrue(evaluator.evaluate(new SearchBoard(check), 0) > -10000);
+        assertTrue(evaluator.evaluate(new SearchBoard(foolsMate), 3) < mateScore);
+    }
+}
@@ -0,0 +1,106 @@
+package com.tests.chess.engine.player.ai;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.PackedMove;
+import com.chess.engine.board.Perft.ReferencePosition;
+import com.chess.engine.player.ai.AlphaBeta;
+import com.chess.engine.player.ai.TranspositionTable;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class TranspositionTableTest {
+
+    @Test
+    public void storeAndProbe() {
+        final TranspositionTable table = new TranspositionTable(1);
+        final int move = PackedMove.create(52, 36, 0, -1, -1, PackedMove.PAWN_JUMP);
+        table.store(0x123456789ABCDEFL, move, -1234, 7, TranspositionTable.BOUND_LOWER, 3);
+        final long entry = table.probe(0x123456789ABCDEFL);
+        assertNotEquals(entry, TranspositionTable.NO_ENTRY);
+        assertEquals(TranspositionTable.getMove(entry), move);
+        assertEquals(TranspositionTable.getScore(entry, 3), -1234);
+        assertEquals(TranspositionTable.getDepth(entry), 7);
+        assertEquals(TranspositionTable.getBound(entry), TranspositionTable.BOUND_LOWER);
+        assertEquals(table.probe(0x123456789ABCDEEL), TranspositionTable.NO_ENTRY);
+    }
+
+    @Test
+    public void mateScoresAreStoredRelativeToPly() {
+        final TranspositionTable table = new TranspositionTable(1);
+        table.store(42L, PackedMove.NULL_MOVE, AlphaBeta.MATE_VALUE - 5, 4, TranspositionTable.BOUND_EXACT, 3);
+        assertEquals(TranspositionTable.getScore(table.probe(42L), 1), AlphaBeta.MATE_VALUE - 3);
+        table.store(43L, PackedMove.NULL_MOVE, -AlphaBeta.MATE_VALUE + 6, 4, TranspositionTable.BOUND_EXACT, 4);
+        assertEquals(TranspositionTable.getScore(table.probe(43L), 2), -AlphaBeta.MATE_VALUE + 4);
+    }
+
+    @Test
+    public void olderEntriesAreReplacedFirst() {
+        final TranspositionTable table = new TranspositionTable(1);
+        final long sameBucket = (long) table.capacity() << 32;
+        for (int i = 0; i < 4; i++) {
+            table.store(i * sameBucket, PackedMove.NULL_MOVE, i, 2, TranspositionTable.BOUND_EXACT, 0);
+        }
+        table.newSearch();
+        table.store(4 * sameBucket, PackedMove.NULL_MOVE, 4, 1, TranspositionTable.BOUND_EXACT, 0);
+        table.store(5 * sameBucket, PackedMove.NULL_MOVE, 5, 1, TranspositionTable.BOUND_EXACT, 0);
+        assertNotEquals(table.probe(4 * sameBucket), TranspositionTable.NO_ENTRY);
+        assertNotEquals(table.probe(5 * sameBucket), TranspositionTable.NO_ENTRY);
+        int survivors = 0;
+        for (int i = 0; i < 4; i++) {
+            survivors += table.probe(i * sameBucket) != TranspositionTable.NO_ENTRY ? 1 : 0;
+        }
+        assertEquals(survivors, 2);
+    }
+
+    @Test
+    public void concurrentWritersNeverProduceTornEntries() throws InterruptedException {
+        final TranspositionTable table = new TranspositionTable(1);
+        final AtomicBoolean corrupted = new AtomicBoolean(false);
+        final long[] keys = new long[1 << 14];
+        final Random keyRandom = new Random(7);
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keyRandom.nextLong();
+        }
+        final Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final long seed = t;
+            threads[t] = new Thread(new Runnable() {
+                public void run() {
+                    final Random random = new Random(seed);
+                    for (int i = 0; i < 500000; i++) {
+                        final int index = random.nextInt(keys.length);
+                        table.store(keys[index], PackedMove.NULL_MOVE, index, 1, TranspositionTable.BOUND_EXACT, 0);
+                        final int probeIndex = random.nextInt(keys.length);
+                        final long entry = table.probe(keys[probeIndex]);
+                        if (entry != TranspositionTable.NO_ENTRY &&
+                                TranspositionTable.getScore(entry, 0) != probeIndex) {
+                            corrupted.set(true);
+                        }
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (final Thread thread: threads) {
+            thread.join();
+        }
+        assertFalse(corrupted.get());
+    }
+
+    @Test
+    public void searchWithTableVisitsFewerNodes() {
+        final Board board = ReferencePosition.KIWIPETE.createBoard();
+        final AlphaBeta plain = new AlphaBeta(4);
+        assertNotNull(plain.execute(board));
+        final AlphaBeta hashed = new AlphaBeta.Builder()
+                .setSearchDepth(4)
+                .setTranspositionTable(new TranspositionTable(16))
+                .build();
+        assertNotNull(hashed.execute(board));
+        assertTrue(hashed.getNodeCount() < plain.getNodeCount());
+    }
+}